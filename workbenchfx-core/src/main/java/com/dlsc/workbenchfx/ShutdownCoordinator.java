@@ -0,0 +1,95 @@
+package com.dlsc.workbenchfx;
+
+import com.dlsc.workbenchfx.model.WorkbenchModule;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+import javafx.animation.PauseTransition;
+import javafx.application.Platform;
+import javafx.util.Duration;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Waits concurrently for all modules to agree to being closed when the application is being
+ * closed, but at most until a deadline has been reached.
+ *
+ * @author François Martin
+ * @author Marco Sanfratello
+ */
+final class ShutdownCoordinator {
+
+  private static final Logger LOGGER =
+      LoggerFactory.getLogger(ShutdownCoordinator.class.getName());
+
+  private final Map<WorkbenchModule, CompletableFuture<?>> agreements = new LinkedHashMap<>();
+  private final PauseTransition deadline;
+  private final Consumer<List<WorkbenchModule>> onFinished;
+  private long startTime;
+  private boolean finished;
+
+  /**
+   * Creates a new {@link ShutdownCoordinator}.
+   *
+   * @param timeout    how long to wait for all modules to agree at most
+   * @param onFinished called on the JavaFX Application Thread with all modules which have not
+   *                   agreed to being closed until the deadline, as soon as all modules have agreed
+   *                   or the deadline has been reached
+   */
+  ShutdownCoordinator(Duration timeout, Consumer<List<WorkbenchModule>> onFinished) {
+    this.onFinished = onFinished;
+    deadline = new PauseTransition(timeout);
+    deadline.setOnFinished(event -> finish());
+  }
+
+  /**
+   * Waits for the {@code module} to agree to being closed.
+   *
+   * @param module    which is being closed
+   * @param agreement which completes as soon as the {@code module} agrees to being closed, an
+   *                  exceptional completion is being treated as an agreement
+   */
+  void await(WorkbenchModule module, CompletableFuture<?> agreement) {
+    agreements.put(module, agreement.whenComplete((result, throwable) -> {
+      if (!Objects.isNull(throwable)) {
+        LOGGER.error("Module " + module + " failed while being closed", throwable);
+      } else {
+        LOGGER.trace("Module " + module + " agreed to being closed after "
+            + (System.nanoTime() - startTime) / 1_000_000 + "ms");
+      }
+    }));
+  }
+
+  /**
+   * Starts waiting for all modules and the deadline.
+   */
+  void start() {
+    startTime = System.nanoTime();
+    deadline.play();
+    CompletableFuture.allOf(agreements.values().toArray(new CompletableFuture<?>[0]))
+        .whenComplete((result, throwable) -> Platform.runLater(this::finish));
+  }
+
+  private void finish() {
+    if (finished) {
+      return;
+    }
+    finished = true;
+    deadline.stop();
+    List<WorkbenchModule> blocking = agreements.entrySet().stream()
+        .filter(entry -> !entry.getValue().isDone())
+        .map(Map.Entry::getKey)
+        .collect(Collectors.toList());
+    if (blocking.isEmpty()) {
+      LOGGER.trace("All modules agreed to being closed");
+    } else {
+      LOGGER.warn("Deadline of " + deadline.getDuration() + " exceeded while closing modules, "
+          + "the following modules blocked: " + blocking);
+    }
+    onFinished.accept(blocking);
+  }
+}
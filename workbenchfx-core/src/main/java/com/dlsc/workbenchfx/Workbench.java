@@ -1,39 +1,74 @@
 package com.dlsc.workbenchfx;
 
+import com.dlsc.workbenchfx.model.IndexedModule;
+import com.dlsc.workbenchfx.model.LazyModule;
+import com.dlsc.workbenchfx.model.LifecycleLatency;
+import com.dlsc.workbenchfx.model.LifecycleLatencyMxBean;
+import com.dlsc.workbenchfx.model.ModuleDescriptor;
+import com.dlsc.workbenchfx.model.ModuleIndex;
+import com.dlsc.workbenchfx.model.PreparableModule;
 import com.dlsc.workbenchfx.model.WorkbenchDialog;
 import com.dlsc.workbenchfx.model.WorkbenchDialog.Type;
 import com.dlsc.workbenchfx.model.WorkbenchModule;
+import com.dlsc.workbenchfx.model.WorkbenchModule.LifecycleMethod;
+import com.dlsc.workbenchfx.model.WorkbenchModule.Phase;
 import com.dlsc.workbenchfx.model.WorkbenchOverlay;
+import com.dlsc.workbenchfx.util.BatchedObservableList;
+import com.dlsc.workbenchfx.util.IdleScheduler;
+import com.dlsc.workbenchfx.util.IndexedObservableList;
+import com.dlsc.workbenchfx.util.LatencyHistogram;
+import com.dlsc.workbenchfx.util.ModuleUsageStatistics;
+import com.dlsc.workbenchfx.util.SearchIndex;
+import com.dlsc.workbenchfx.util.WorkbenchUtils;
 import com.dlsc.workbenchfx.view.WorkbenchPresenter;
 import com.dlsc.workbenchfx.view.controls.GlassPane;
 import com.dlsc.workbenchfx.view.controls.NavigationDrawer;
 import com.dlsc.workbenchfx.view.controls.ToolbarItem;
 import com.dlsc.workbenchfx.view.controls.dialog.DialogControl;
+import com.dlsc.workbenchfx.view.controls.module.ActiveTabDispatcher;
 import com.dlsc.workbenchfx.view.controls.module.Page;
 import com.dlsc.workbenchfx.view.controls.module.Tab;
 import com.dlsc.workbenchfx.view.controls.module.Tile;
 import com.google.common.collect.Range;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Consumer;
+import java.util.function.Supplier;
 import javafx.animation.TranslateTransition;
 import javafx.application.Platform;
 import javafx.beans.binding.Bindings;
 import javafx.beans.binding.DoubleBinding;
 import javafx.beans.binding.DoubleExpression;
+import javafx.beans.property.BooleanProperty;
 import javafx.beans.property.IntegerProperty;
 import javafx.beans.property.ListProperty;
 import javafx.beans.property.ObjectProperty;
 import javafx.beans.property.ReadOnlyDoubleProperty;
 import javafx.beans.property.ReadOnlyIntegerProperty;
 import javafx.beans.property.ReadOnlyObjectProperty;
+import javafx.beans.property.SimpleBooleanProperty;
 import javafx.beans.property.SimpleIntegerProperty;
 import javafx.beans.property.SimpleListProperty;
 import javafx.beans.property.SimpleObjectProperty;
+import javafx.beans.property.SimpleStringProperty;
+import javafx.beans.property.StringProperty;
 import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
 import javafx.collections.ObservableList;
 import javafx.collections.ObservableMap;
 import javafx.event.Event;
@@ -52,6 +87,10 @@ import javafx.stage.Stage;
 import javafx.stage.WindowEvent;
 import javafx.util.Callback;
 import javafx.util.Duration;
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import javax.management.StandardMBean;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -82,7 +121,45 @@ public class Workbench extends Control {
   private static final Callback<Workbench, Tile> DEFAULT_TILE_FACTORY = Tile::new;
   private static final Callback<Workbench, Page> DEFAULT_PAGE_FACTORY = Page::new;
   private static final int DEFAULT_MODULES_PER_PAGE = 6;
+  private static final int DEFAULT_MAX_RESIDENT_MODULE_VIEWS = Integer.MAX_VALUE;
+  private static final int DEFAULT_MODULE_VIEW_NODE_BUDGET = Integer.MAX_VALUE;
+  private static final boolean DEFAULT_PREWARMING = false;
+  private static final int DEFAULT_MAX_PREWARMED_MODULES = 3;
+  private static final boolean DEFAULT_MODULE_SEARCH = false;
+  private static final HomeScreenLayout DEFAULT_HOME_SCREEN_LAYOUT = HomeScreenLayout.PAGES;
+  private static final int DEFAULT_TAB_VIRTUALIZATION_THRESHOLD = 30;
+
+  // Prewarming
+  private static final Duration PREWARMING_IDLE_DELAY = Duration.millis(500);
+  /**
+   * How many times a module needs to have been opened after the current module, before it is
+   * being prewarmed.
+   */
+  private static final int PREWARMING_MIN_TRANSITIONS = 3;
+  /**
+   * Fraction of the maximum heap size, above which no more modules are being prewarmed.
+   */
+  private static final double PREWARMING_MAX_HEAP_USAGE = 0.75;
+
+  // Metrics
+  private static final String LATENCY_MBEAN_NAME =
+      "com.dlsc.workbenchfx:type=LifecycleLatency,name=workbench-";
+  private static final AtomicInteger LATENCY_MBEAN_COUNTER = new AtomicInteger();
   private static final NavigationDrawer DEFAULT_NAVIGATION_DRAWER = new NavigationDrawer();
+  private static final Executor DEFAULT_MODULE_EXECUTOR = Executors.newCachedThreadPool(
+      new ThreadFactoryBuilder().setNameFormat("workbenchfx-module-%d").setDaemon(true).build()
+  );
+  /**
+   * Runs continuations of futures, which may be completed on any thread, on the JavaFX Application
+   * Thread. They are being run right away if the future is being completed on it already.
+   */
+  private static final Executor FX_EXECUTOR = runnable -> {
+    if (Platform.isFxApplicationThread()) {
+      runnable.run();
+    } else {
+      Platform.runLater(runnable);
+    }
+  };
 
   // Custom Controls
   private final ObjectProperty<NavigationDrawer> navigationDrawer =
@@ -117,16 +194,41 @@ public class Workbench extends Control {
   /**
    * List of all modules.
    */
-  private final ListProperty<WorkbenchModule> modules = new SimpleListProperty<>(this, "modules",
-      FXCollections.observableArrayList());
+  private final BatchedObservableList<WorkbenchModule> moduleList = new BatchedObservableList<>();
+  private final ListProperty<WorkbenchModule> modules =
+      new SimpleListProperty<>(this, "modules", moduleList);
+
+  /**
+   * List of the modules being displayed on the home screen. Mirrors the list of all modules, unless
+   * modules are being searched for, in which case it contains the search results.
+   */
+  private final BatchedObservableList<WorkbenchModule> displayedModules =
+      new BatchedObservableList<>();
+  private final ObservableList<WorkbenchModule> unmodifiableDisplayedModules =
+      FXCollections.unmodifiableObservableList(displayedModules);
+
+  /**
+   * Index of the names and categories of all modules. Is only being built once modules are being
+   * searched for the first time and updated along with the list of all modules from then on.
+   */
+  private SearchIndex<WorkbenchModule> moduleSearchIndex;
+  private final StringProperty moduleSearchText =
+      new SimpleStringProperty(this, "moduleSearchText", "");
+  private final BooleanProperty moduleSearch =
+      new SimpleBooleanProperty(this, "moduleSearch", DEFAULT_MODULE_SEARCH);
+  private final ObjectProperty<HomeScreenLayout> homeScreenLayout =
+      new SimpleObjectProperty<>(this, "homeScreenLayout", DEFAULT_HOME_SCREEN_LAYOUT);
 
   /**
    * List of all currently open modules. Open modules are being displayed as open tabs in the
-   * application.
+   * application. Keeps track of the position of each module, so lookups on activation and closing
+   * take constant time, even with a lot of open modules.
    */
   private final ListProperty<WorkbenchModule> openModules = new SimpleListProperty<>(this,
       "modules",
-      FXCollections.observableArrayList());
+      new IndexedObservableList<>());
+  private final ObservableList<WorkbenchModule> unmodifiableOpenModules =
+      FXCollections.unmodifiableObservableList(openModules);
 
   /**
    * Will close the module without calling {@link WorkbenchModule#destroy()} if the corresponding
@@ -136,7 +238,7 @@ public class Workbench extends Control {
    * there is no need to differentiate whether it was completed with {@code true} or {@code false}.
    */
   private final Map<WorkbenchModule, CompletableFuture<Boolean>> moduleCloseableMap =
-      new HashMap<>();
+      new ConcurrentHashMap<>();
 
   /**
    * Currently active module. Active module is the module, which is currently being displayed in the
@@ -147,6 +249,37 @@ public class Workbench extends Control {
       new SimpleObjectProperty<>(this, "activeModule");
   private final ObjectProperty<Node> activeModuleView =
       new SimpleObjectProperty<>(this, "activeModuleView");
+  /**
+   * Updates whether the {@link Tab}s are active, only for the previously and newly active module.
+   */
+  private final ActiveTabDispatcher activeTabDispatcher = new ActiveTabDispatcher(activeModule);
+
+  /**
+   * The result of {@link WorkbenchModule#activateAsync()} of the active module, as long as it has
+   * not been completed yet. While it is pending, {@code activeModuleView} is null and a placeholder
+   * is being displayed. Results of activations which have been superseded by switching to another
+   * module in the meantime are being discarded.
+   */
+  private CompletableFuture<Node> pendingActivation;
+
+  /**
+   * Lifecycle phases of all open modules. Modules which are not open are in {@link Phase#CLOSED}.
+   */
+  private final ObservableMap<WorkbenchModule, Phase> modulePhases =
+      FXCollections.observableHashMap();
+
+  /**
+   * The results of {@link PreparableModule#prepare(Workbench)} of all open modules implementing
+   * {@link PreparableModule}. A module only gets attached once its preparation has completed.
+   */
+  private final Map<WorkbenchModule, CompletableFuture<Void>> modulePreparations =
+      new HashMap<>();
+
+  /**
+   * The executor, on which {@link PreparableModule#prepare(Workbench)} is being called.
+   */
+  private final ObjectProperty<Executor> moduleExecutor =
+      new SimpleObjectProperty<>(this, "moduleExecutor", DEFAULT_MODULE_EXECUTOR);
 
   // Factories
   /**
@@ -165,6 +298,84 @@ public class Workbench extends Control {
       new SimpleIntegerProperty(this, "modulesPerPage", DEFAULT_MODULES_PER_PAGE);
   private final IntegerProperty amountOfPages = new SimpleIntegerProperty(this, "amountOfPages");
 
+  /**
+   * Defines how many views of open modules are being kept in the scene graph at most, including
+   * the view of the active module. Views of inactive modules exceeding this amount are being
+   * evicted, starting with the least recently displayed one.
+   */
+  private final IntegerProperty maxResidentModuleViews = new SimpleIntegerProperty(
+      this, "maxResidentModuleViews", DEFAULT_MAX_RESIDENT_MODULE_VIEWS);
+
+  /**
+   * Defines the estimated total amount of nodes the views of open modules may consist of, before
+   * views of inactive modules are being evicted, starting with the least recently displayed one.
+   */
+  private final IntegerProperty moduleViewNodeBudget = new SimpleIntegerProperty(
+      this, "moduleViewNodeBudget", DEFAULT_MODULE_VIEW_NODE_BUDGET);
+
+  /**
+   * Defines how many modules may be open, before only the tabs which are currently being scrolled
+   * into view are being created.
+   */
+  private final IntegerProperty tabVirtualizationThreshold = new SimpleIntegerProperty(
+      this, "tabVirtualizationThreshold", DEFAULT_TAB_VIRTUALIZATION_THRESHOLD);
+
+  // Prewarming
+  /**
+   * Defines whether modules which are likely to be opened next are being initialized (and prepared,
+   * in case of a {@link PreparableModule}) ahead of time, while the user is idle.
+   */
+  private final BooleanProperty prewarming =
+      new SimpleBooleanProperty(this, "prewarming", DEFAULT_PREWARMING);
+  /**
+   * Defines how many modules may be prewarmed, without having been opened yet.
+   */
+  private final IntegerProperty maxPrewarmedModules =
+      new SimpleIntegerProperty(this, "maxPrewarmedModules", DEFAULT_MAX_PREWARMED_MODULES);
+
+  /**
+   * Modules which have been initialized ahead of time, but have not been opened yet.
+   */
+  private final Set<WorkbenchModule> prewarmedModules = new LinkedHashSet<>();
+  private final ModuleUsageStatistics usageStatistics = new ModuleUsageStatistics();
+  private WorkbenchModule lastActiveModule;
+  private IdleScheduler idleScheduler;
+
+  // Shutdown
+  /**
+   * Defines how long to wait at most for all open modules to agree to being closed concurrently,
+   * when the application is being closed. If null, modules are being closed one after another
+   * without a timeout.
+   */
+  private final ObjectProperty<Duration> shutdownTimeout =
+      new SimpleObjectProperty<>(this, "shutdownTimeout");
+  private ShutdownCoordinator shutdownCoordinator;
+
+  // Metrics
+  /**
+   * Latencies of all calls to the lifecycle methods of each module. May be read from any thread,
+   * for example by JMX. Asynchronous lifecycle methods are being timed until their result has been
+   * completed.
+   */
+  private final Map<WorkbenchModule, Map<LifecycleMethod, LatencyHistogram>> lifecycleLatencies =
+      new ConcurrentHashMap<>();
+  private ObjectName latencyMBeanName;
+
+  /**
+   * Defines how the tiles of the modules are being laid out on the home screen.
+   */
+  public enum HomeScreenLayout {
+    /**
+     * Displays the modules on separate pages, of which only one is being shown at a time.
+     */
+    PAGES,
+    /**
+     * Displays all modules in one vertically scrolling grid, in which only the visible rows of
+     * tiles are being created.
+     */
+    SCROLLING
+  }
+
   // Builder
   /**
    * Creates a builder for {@link Workbench}.
@@ -182,9 +393,29 @@ public class Workbench extends Control {
     // Required parameters
     private WorkbenchModule[] modules;
 
+    private ModuleDescriptor[] moduleDescriptors = new ModuleDescriptor[0];
+
+    private ClassLoader moduleIndexClassLoader;
+
     // Optional parameters - initialized to default values
     private int modulesPerPage = DEFAULT_MODULES_PER_PAGE;
 
+    private int maxResidentModuleViews = DEFAULT_MAX_RESIDENT_MODULE_VIEWS;
+
+    private int moduleViewNodeBudget = DEFAULT_MODULE_VIEW_NODE_BUDGET;
+
+    private int tabVirtualizationThreshold = DEFAULT_TAB_VIRTUALIZATION_THRESHOLD;
+
+    private boolean prewarming = DEFAULT_PREWARMING;
+
+    private int maxPrewarmedModules = DEFAULT_MAX_PREWARMED_MODULES;
+
+    private Duration shutdownTimeout;
+
+    private boolean moduleSearch = DEFAULT_MODULE_SEARCH;
+
+    private HomeScreenLayout homeScreenLayout = DEFAULT_HOME_SCREEN_LAYOUT;
+
     private Callback<Workbench, Tab> tabFactory = DEFAULT_TAB_FACTORY;
 
     private Callback<Workbench, Tile> tileFactory = DEFAULT_TILE_FACTORY;
@@ -198,6 +429,8 @@ public class Workbench extends Control {
 
     private MenuItem[] navigationDrawerItems;
 
+    private Executor moduleExecutor = DEFAULT_MODULE_EXECUTOR;
+
     private WorkbenchBuilder(WorkbenchModule... modules) {
       this.modules = modules;
     }
@@ -213,6 +446,156 @@ public class Workbench extends Control {
       return this;
     }
 
+    /**
+     * Defines modules which should only be created once they are being opened for the first time.
+     *
+     * @param moduleDescriptors of the modules to be loaded for the application in addition to the
+     *                          modules passed to {@link Workbench#builder(WorkbenchModule...)}
+     * @return builder for chaining
+     * @implNote For each descriptor, a {@link LazyModule} is being added to
+     *           {@link Workbench#getModules()}, which is displayed using the name and icon of the
+     *           descriptor. The module itself is only being created when it is being initialized.
+     */
+    public final WorkbenchBuilder moduleDescriptors(ModuleDescriptor... moduleDescriptors) {
+      this.moduleDescriptors = moduleDescriptors;
+      return this;
+    }
+
+    /**
+     * Defines that the modules of all {@link ModuleIndex}es, which have been generated at compile
+     * time for modules annotated with {@link IndexedModule}, should be loaded for the application.
+     *
+     * @param classLoader to be used to look up the {@link ModuleIndex}es
+     * @return builder for chaining
+     * @implNote The modules are being added as {@link LazyModule}s in addition to the modules
+     *           passed to {@link Workbench#builder(WorkbenchModule...)} and
+     *           {@link #moduleDescriptors(ModuleDescriptor...)}, without scanning the classpath.
+     */
+    public final WorkbenchBuilder loadModuleIndex(ClassLoader classLoader) {
+      this.moduleIndexClassLoader = classLoader;
+      return this;
+    }
+
+    /**
+     * Defines how many views of open modules should be kept in the scene graph at most.
+     *
+     * @param maxResidentModuleViews amount of module views to be kept in the scene graph,
+     *                               including the view of the active module
+     * @return builder for chaining
+     * @implNote When exceeded, the views of the least recently displayed modules are being removed
+     *           from the scene graph and {@link WorkbenchModule#viewEvicted(Node)} is being called.
+     *           By default, all views are being kept.
+     */
+    public final WorkbenchBuilder maxResidentModuleViews(int maxResidentModuleViews) {
+      this.maxResidentModuleViews = maxResidentModuleViews;
+      return this;
+    }
+
+    /**
+     * Defines the estimated amount of nodes the views of all open modules may consist of in total.
+     *
+     * @param moduleViewNodeBudget amount of nodes of module views to be kept in the scene graph
+     * @return builder for chaining
+     * @implNote When exceeded, the views of the least recently displayed modules are being removed
+     *           from the scene graph and {@link WorkbenchModule#viewEvicted(Node)} is being called.
+     *           The view of the active module is never being evicted. By default, there is no
+     *           limit.
+     */
+    public final WorkbenchBuilder moduleViewNodeBudget(int moduleViewNodeBudget) {
+      this.moduleViewNodeBudget = moduleViewNodeBudget;
+      return this;
+    }
+
+    /**
+     * Defines how many modules may be open, before the tabs are being virtualized.
+     *
+     * @param tabVirtualizationThreshold amount of open modules, above which only the visible tabs
+     *                                   are being created
+     * @return builder for chaining
+     * @implNote Once more modules are open, tabs are being created only for the modules which are
+     *           being scrolled into view and are being reused while scrolling. By default, tabs
+     *           are being virtualized as soon as more than 30 modules are open.
+     */
+    public final WorkbenchBuilder tabVirtualizationThreshold(int tabVirtualizationThreshold) {
+      this.tabVirtualizationThreshold = tabVirtualizationThreshold;
+      return this;
+    }
+
+    /**
+     * Defines whether modules should be initialized ahead of time, while the user is idle.
+     *
+     * @param prewarming true if modules should be prewarmed
+     * @return builder for chaining
+     * @implNote When enabled, a module is being prewarmed if the pointer rests on its {@link Tile}
+     *           or if it has usually been opened after the module which is currently being
+     *           displayed. Prewarming calls {@link WorkbenchModule#init(Workbench)} and, in case of
+     *           a {@link PreparableModule}, {@link PreparableModule#prepare(Workbench)} before the
+     *           module is being opened. By default, modules are not being prewarmed.
+     */
+    public final WorkbenchBuilder prewarming(boolean prewarming) {
+      this.prewarming = prewarming;
+      return this;
+    }
+
+    /**
+     * Defines how many modules may be prewarmed without having been opened.
+     *
+     * @param maxPrewarmedModules amount of modules which may be prewarmed ahead of time
+     * @return builder for chaining
+     * @implNote Independently of this amount, no more modules are being prewarmed as soon as the
+     *           used heap exceeds 75% of the maximum heap size.
+     */
+    public final WorkbenchBuilder maxPrewarmedModules(int maxPrewarmedModules) {
+      this.maxPrewarmedModules = maxPrewarmedModules;
+      return this;
+    }
+
+    /**
+     * Defines that all open modules should be closed concurrently when the application is being
+     * closed, waiting at most for the {@code shutdownTimeout}.
+     *
+     * @param shutdownTimeout how long to wait at most for all open modules to agree to being closed
+     * @return builder for chaining
+     * @implNote When set, {@link WorkbenchModule#destroyAsync()} is being called on all open
+     *           modules at once and the stage is being closed as soon as all of them have agreed to
+     *           being closed, or the {@code shutdownTimeout} has been reached. Modules which
+     *           blocked are being logged. By default, modules are being closed one after another
+     *           using {@link WorkbenchModule#destroy()}, without a timeout.
+     */
+    public final WorkbenchBuilder shutdownTimeout(Duration shutdownTimeout) {
+      this.shutdownTimeout = shutdownTimeout;
+      return this;
+    }
+
+    /**
+     * Defines whether a search field should be shown on the home screen, which allows to search
+     * for modules by their name and category.
+     *
+     * @param moduleSearch true if the search field should be shown
+     * @return builder for chaining
+     * @implNote The search tolerates typos and matches words starting with the words being
+     *           searched for. Only the modules matching the search are being displayed as tiles,
+     *           the most similar ones first. By default, no search field is being shown.
+     */
+    public final WorkbenchBuilder moduleSearch(boolean moduleSearch) {
+      this.moduleSearch = moduleSearch;
+      return this;
+    }
+
+    /**
+     * Defines how the tiles of the modules are being laid out on the home screen.
+     *
+     * @param homeScreenLayout to be used on the home screen
+     * @return builder for chaining
+     * @implNote {@link HomeScreenLayout#SCROLLING} displays all modules in one scrolling grid,
+     *           which only creates the tiles of the visible rows and is therefore better suited
+     *           for a large amount of modules. By default, {@link HomeScreenLayout#PAGES} is used.
+     */
+    public final WorkbenchBuilder homeScreenLayout(HomeScreenLayout homeScreenLayout) {
+      this.homeScreenLayout = homeScreenLayout;
+      return this;
+    }
+
     /**
      * Defines how {@link Tab} should be created to be used as tabs in the view.
      *
@@ -302,6 +685,20 @@ public class Workbench extends Control {
       return this;
     }
 
+    /**
+     * Defines on which {@link Executor} modules implementing {@link PreparableModule} should be
+     * prepared.
+     *
+     * @param moduleExecutor to be used to call {@link PreparableModule#prepare(Workbench)}
+     * @return builder for chaining
+     * @implNote By default, a shared pool of daemon threads is being used. The executor <b>must
+     *           not</b> run tasks on the JavaFX Application Thread.
+     */
+    public final WorkbenchBuilder moduleExecutor(Executor moduleExecutor) {
+      this.moduleExecutor = moduleExecutor;
+      return this;
+    }
+
     /**
      * Builds and fully initializes a {@link Workbench} object.
      *
@@ -319,6 +716,7 @@ public class Workbench extends Control {
   public Workbench() {
     initBindings();
     initListeners();
+    initModuleSearch();
     initNavigationDrawer(getNavigationDrawer());
     setupCleanup();
     getStylesheets().add(Workbench.class.getResource("css/context-menu.css").toExternalForm());
@@ -333,6 +731,15 @@ public class Workbench extends Control {
   private Workbench(WorkbenchBuilder builder) {
     this();
     setModulesPerPage(builder.modulesPerPage);
+    setModuleExecutor(builder.moduleExecutor);
+    setMaxResidentModuleViews(builder.maxResidentModuleViews);
+    setModuleViewNodeBudget(builder.moduleViewNodeBudget);
+    setTabVirtualizationThreshold(builder.tabVirtualizationThreshold);
+    setPrewarming(builder.prewarming);
+    setMaxPrewarmedModules(builder.maxPrewarmedModules);
+    setShutdownTimeout(builder.shutdownTimeout);
+    setModuleSearch(builder.moduleSearch);
+    setHomeScreenLayout(builder.homeScreenLayout);
     initFactories(builder);
     initToolbarControls(builder);
     initNavigationDrawer(builder);
@@ -348,7 +755,7 @@ public class Workbench extends Control {
   private void initBindings() {
     amountOfPages.bind(
         Bindings.createIntegerBinding(
-            this::calculateAmountOfPages, modulesPerPageProperty(), getModules()
+            this::calculateAmountOfPages, modulesPerPageProperty(), getDisplayedModules()
         )
     );
   }
@@ -383,7 +790,90 @@ public class Workbench extends Control {
   private void initModules(WorkbenchBuilder builder) {
     WorkbenchModule[] modules = builder.modules;
 
-    this.modules.addAll(modules);
+    batchUpdate(moduleList -> {
+      moduleList.addAll(modules);
+      for (ModuleDescriptor moduleDescriptor : builder.moduleDescriptors) {
+        moduleList.add(moduleDescriptor.createProxy());
+      }
+      if (!Objects.isNull(builder.moduleIndexClassLoader)) {
+        for (ModuleDescriptor moduleDescriptor
+            : ModuleIndex.load(builder.moduleIndexClassLoader)) {
+          moduleList.add(moduleDescriptor.createProxy());
+        }
+      }
+    });
+  }
+
+  private void initModuleSearch() {
+    moduleList.addListener((ListChangeListener<WorkbenchModule>) change -> {
+      if (!Objects.isNull(moduleSearchIndex)) {
+        // remove all modules first, in case modules have been moved within a batch
+        while (change.next()) {
+          change.getRemoved().forEach(moduleSearchIndex::remove);
+        }
+        change.reset();
+        while (change.next()) {
+          change.getAddedSubList().forEach(this::indexModule);
+        }
+        change.reset();
+      }
+      if (SearchIndex.isSearchable(getModuleSearchText())) {
+        updateDisplayedModules();
+        return;
+      }
+      // replay the changes, so only the pages showing the changed modules need to be updated
+      displayedModules.beginBatch();
+      try {
+        while (change.next()) {
+          if (change.wasPermutated()) {
+            displayedModules.setAll(moduleList);
+          } else {
+            int from = change.getFrom();
+            displayedModules.remove(from, from + change.getRemovedSize());
+            displayedModules.addAll(from, change.getAddedSubList());
+          }
+        }
+      } finally {
+        displayedModules.endBatch();
+      }
+    });
+    moduleSearchText.addListener(observable -> updateDisplayedModules());
+  }
+
+  private void indexModule(WorkbenchModule module) {
+    if (module instanceof LazyModule) {
+      String category = ((LazyModule) module).getDescriptor().getCategory();
+      moduleSearchIndex.add(module, module.getName(), category);
+    } else {
+      moduleSearchIndex.add(module, module.getName());
+    }
+  }
+
+  /**
+   * Displays either all modules or the modules matching the search, ordered by their similarity.
+   * Modules which are equally similar are being displayed in the order of {@link #getModules()}.
+   */
+  private void updateDisplayedModules() {
+    String query = getModuleSearchText();
+    List<WorkbenchModule> displayed = moduleList;
+    if (SearchIndex.isSearchable(query)) {
+      if (Objects.isNull(moduleSearchIndex)) {
+        LOGGER.trace("updateDisplayedModules - Building search index");
+        moduleSearchIndex = new SearchIndex<>();
+        moduleList.forEach(this::indexModule);
+      }
+      Map<WorkbenchModule, Double> results = moduleSearchIndex.search(query);
+      displayed = new ArrayList<>(results.size());
+      for (WorkbenchModule module : moduleList) {
+        if (results.containsKey(module)) {
+          displayed.add(module);
+        }
+      }
+      displayed.sort((first, second) -> Double.compare(results.get(second), results.get(first)));
+    }
+    if (!displayedModules.equals(displayed)) {
+      displayedModules.setAll(displayed);
+    }
   }
 
   private void initListeners() {
@@ -392,6 +882,7 @@ public class Workbench extends Control {
       LOGGER.trace("Module Listener - Old Module: " + oldModule);
       LOGGER.trace("Module Listener - New Module: " + newModule);
       if (oldModule != newModule) {
+        pendingActivation = null; // discard the result of a pending activation of the old module
         boolean fromHomeScreen = oldModule == null;
         LOGGER.trace("Active Module Listener - Previous view home screen: " + fromHomeScreen);
         boolean fromDestroyed = !openModules.contains(oldModule);
@@ -399,7 +890,10 @@ public class Workbench extends Control {
         if (!fromHomeScreen && !fromDestroyed) {
           // switch from one module to another
           LOGGER.trace("Active Module Listener - Deactivating old module - " + oldModule);
-          oldModule.deactivate();
+          timed(oldModule, LifecycleMethod.DEACTIVATE, oldModule::deactivate);
+          if (getModulePhase(oldModule) != Phase.PREPARING) {
+            setModulePhase(oldModule, Phase.INACTIVE);
+          }
         }
         boolean toHomeScreen = newModule == null;
         if (toHomeScreen) {
@@ -408,15 +902,40 @@ public class Workbench extends Control {
           activeModuleView.setValue(null);
           return;
         }
+        usageStatistics.recordTransition(lastActiveModule, newModule);
+        lastActiveModule = newModule;
+        cancelPrewarming(newModule);
         if (!openModules.contains(newModule)) {
           // module has not been loaded yet
-          LOGGER.trace("Active Module Listener - Initializing module - " + newModule);
-          newModule.init(this);
+          if (prewarmedModules.remove(newModule)) {
+            LOGGER.trace("Active Module Listener - Module was prewarmed - " + newModule);
+          } else {
+            LOGGER.trace("Active Module Listener - Initializing module - " + newModule);
+            timed(newModule, LifecycleMethod.INIT, () -> newModule.init(this));
+          }
           resetModuleCloseable(newModule); // initialize closing on call to #close()
           openModules.add(newModule);
         }
         LOGGER.trace("Active Module Listener - Activating module - " + newModule);
-        activeModuleView.setValue(newModule.activate());
+        activateModule(newModule);
+        prewarmModule(usageStatistics.predictNext(newModule, PREWARMING_MIN_TRANSITIONS));
+      }
+    });
+
+    // forget everything about modules which have been removed
+    WorkbenchUtils.addListListener(modules, module -> {
+    }, module -> {
+        usageStatistics.forget(module);
+        cancelPrewarming(module);
+        releasePrewarmedModule(module);
+        lifecycleLatencies.remove(module);
+      });
+
+    // stop prewarming as soon as it gets disabled
+    prewarming.addListener((observable, wasPrewarming, isPrewarming) -> {
+      if (!isPrewarming) {
+        cancelPrewarming();
+        releasePrewarmedModules();
       }
     });
 
@@ -441,6 +960,323 @@ public class Workbench extends Control {
     });
   }
 
+  /**
+   * Initializes the {@code module} ahead of time, the next time the user is idle. In case of a
+   * {@link PreparableModule}, it will also be prepared.
+   *
+   * @param module to be prewarmed or null, which is being ignored
+   * @implNote This method does nothing if {@link #prewarmingProperty()} is false, or if the module
+   *           is already open or has already been prewarmed. Prewarming is being postponed as long
+   *           as the user is interacting with the workbench. Once prewarmed, opening the module
+   *           will not call {@link WorkbenchModule#init(Workbench)} again.
+   */
+  public final void prewarmModule(WorkbenchModule module) {
+    requireFxThread("prewarmModule");
+    if (!isPrewarming()
+        || Objects.isNull(module)
+        || !modules.contains(module)
+        || openModules.contains(module)
+        || prewarmedModules.contains(module)) {
+      return;
+    }
+    if (Objects.isNull(idleScheduler)) {
+      idleScheduler = new IdleScheduler(this, PREWARMING_IDLE_DELAY);
+    }
+    LOGGER.trace("prewarmModule - Scheduling prewarming of module - " + module);
+    idleScheduler.schedule(module, () -> runPrewarming(module));
+  }
+
+  /**
+   * Cancels the prewarming of the {@code module}, if it has not been started yet.
+   *
+   * @param module whose prewarming should be cancelled
+   * @return true if the prewarming was cancelled, false if it was not scheduled
+   */
+  public final boolean cancelPrewarming(WorkbenchModule module) {
+    return !Objects.isNull(idleScheduler) && idleScheduler.cancel(module);
+  }
+
+  /**
+   * Cancels the prewarming of all modules, which has not been started yet.
+   */
+  public final void cancelPrewarming() {
+    if (!Objects.isNull(idleScheduler)) {
+      idleScheduler.cancelAll();
+    }
+  }
+
+  private void runPrewarming(WorkbenchModule module) {
+    if (!modules.contains(module)
+        || openModules.contains(module)
+        || prewarmedModules.contains(module)) {
+      return;
+    }
+    if (!hasPrewarmingBudget()) {
+      LOGGER.trace("prewarmModule - Budget exceeded, not prewarming module - " + module);
+      if (!prewarmedModules.isEmpty() && !hasPrewarmingMemory()) {
+        // make room by releasing the module which has been prewarmed the longest time ago
+        releasePrewarmedModule(prewarmedModules.iterator().next());
+      }
+      return;
+    }
+    LOGGER.trace("prewarmModule - Initializing module ahead of time - " + module);
+    timed(module, LifecycleMethod.INIT, () -> module.init(this));
+    prewarmedModules.add(module);
+    if (!Objects.isNull(getPreparable(module))) {
+      prepareModule(module);
+    }
+  }
+
+  private boolean hasPrewarmingBudget() {
+    return prewarmedModules.size() < getMaxPrewarmedModules() && hasPrewarmingMemory();
+  }
+
+  private static boolean hasPrewarmingMemory() {
+    Runtime runtime = Runtime.getRuntime();
+    long usedMemory = runtime.totalMemory() - runtime.freeMemory();
+    return usedMemory < runtime.maxMemory() * PREWARMING_MAX_HEAP_USAGE;
+  }
+
+  /**
+   * Destroys the {@code module}, if it has been prewarmed and has not been opened since.
+   *
+   * @param module to be released
+   */
+  private void releasePrewarmedModule(WorkbenchModule module) {
+    if (!prewarmedModules.remove(module)) {
+      return;
+    }
+    LOGGER.trace("releasePrewarmedModule - Destroying prewarmed module - " + module);
+    modulePreparations.remove(module);
+    modulePhases.remove(module);
+    timed(module, LifecycleMethod.DESTROY, module::destroy);
+  }
+
+  private void releasePrewarmedModules() {
+    new ArrayList<>(prewarmedModules).forEach(this::releasePrewarmedModule);
+  }
+
+  /**
+   * Calls {@link PreparableModule#prepare(Workbench)} of the {@code module} on the module executor.
+   *
+   * @param module to be prepared, implementing {@link PreparableModule}
+   */
+  private void prepareModule(WorkbenchModule module) {
+    LOGGER.trace("prepareModule - Preparing module - " + module);
+    setModulePhase(module, Phase.PREPARING);
+    CompletableFuture<Void> preparation = CompletableFuture.runAsync(() -> {
+      if (Platform.isFxApplicationThread()) {
+        throw new IllegalStateException(
+            "Module " + module + " must not be prepared on the JavaFX Application Thread");
+      }
+      getPreparable(module).prepare(this);
+    }, getModuleExecutor());
+    modulePreparations.put(module, preparation);
+    preparation.whenComplete((result, throwable) -> Platform.runLater(() -> {
+      if (modulePreparations.get(module) != preparation) {
+        // module has been closed in the meantime
+        return;
+      }
+      if (!Objects.isNull(throwable)) {
+        LOGGER.error("prepareModule - Preparation failed - " + module, throwable);
+        // prepare the module again the next time it is being activated
+        modulePreparations.remove(module);
+        if (getActiveModule() == module) {
+          // the pending activation fails as well and takes care of the module
+          return;
+        }
+      }
+      if (getModulePhase(module) == Phase.PREPARING) {
+        setModulePhase(module, Objects.isNull(throwable) ? Phase.PREPARED : Phase.INACTIVE);
+      }
+    }));
+  }
+
+  /**
+   * Returns the {@code module} as a {@link PreparableModule}, resolving the module behind a
+   * {@link LazyModule} which has already been loaded.
+   *
+   * @param module to be resolved
+   * @return the {@link PreparableModule} or null if the {@code module} cannot be prepared
+   */
+  private static PreparableModule getPreparable(WorkbenchModule module) {
+    WorkbenchModule resolved = module;
+    if (module instanceof LazyModule && ((LazyModule) module).isLoaded()) {
+      resolved = ((LazyModule) module).getModule();
+    }
+    return resolved instanceof PreparableModule ? (PreparableModule) resolved : null;
+  }
+
+  /**
+   * Activates the {@code module} by calling {@link WorkbenchModule#activateAsync()}, after it has
+   * been prepared in case it implements {@link PreparableModule}.
+   * If the view of the module is available immediately, it is being set as the {@code
+   * activeModuleView} right away. Otherwise, {@code activeModuleView} is set to null until the
+   * view of the module has been built, which will then be set on the JavaFX Application Thread.
+   *
+   * @param module to be activated
+   */
+  private void activateModule(WorkbenchModule module) {
+    if (!Objects.isNull(getPreparable(module)) && !modulePreparations.containsKey(module)) {
+      // module has just been opened or its previous preparation failed
+      prepareModule(module);
+    }
+    CompletableFuture<Void> preparation = modulePreparations.get(module);
+    if (Objects.isNull(preparation)
+        || preparation.isDone() && !preparation.isCompletedExceptionally()) {
+      setModulePhase(module, Phase.ATTACHING);
+      CompletableFuture<Node> activation =
+          timedAsync(module, LifecycleMethod.ACTIVATE, module::activateAsync);
+      if (activation.isDone() && !activation.isCompletedExceptionally()) {
+        attachModuleView(module, activation.join());
+      } else {
+        awaitModuleView(module, activation);
+      }
+      return;
+    }
+
+    // attach the module as soon as it has been prepared
+    CompletableFuture<Node> activation = new CompletableFuture<>();
+    awaitModuleView(module, activation);
+    preparation.whenCompleteAsync((result, throwable) -> {
+      if (pendingActivation != activation) {
+        // module has been deactivated in the meantime, it will be attached on the next activation
+        return;
+      }
+      if (!Objects.isNull(throwable)) {
+        activation.completeExceptionally(throwable);
+        return;
+      }
+      setModulePhase(module, Phase.ATTACHING);
+      CompletableFuture<Node> attachment =
+          timedAsync(module, LifecycleMethod.ACTIVATE, module::activateAsync);
+      attachment.whenComplete((view, failure) -> {
+        if (Objects.isNull(failure)) {
+          activation.complete(view);
+        } else {
+          activation.completeExceptionally(failure);
+        }
+      });
+    }, Platform::runLater);
+  }
+
+  private void awaitModuleView(WorkbenchModule module, CompletableFuture<Node> activation) {
+    LOGGER.trace("activateModule - Waiting for view of module - " + module);
+    pendingActivation = activation;
+    activeModuleView.setValue(null);
+    activation.whenComplete((view, throwable) -> Platform.runLater(() -> {
+      if (pendingActivation != activation) {
+        // module has been deactivated in the meantime
+        LOGGER.trace("activateModule - Discarding view of superseded activation - " + module);
+        return;
+      }
+      pendingActivation = null;
+      if (Objects.isNull(throwable)) {
+        LOGGER.trace("activateModule - View of module is ready - " + module);
+        attachModuleView(module, view);
+      } else {
+        Throwable cause = throwable instanceof CompletionException
+            && !Objects.isNull(throwable.getCause()) ? throwable.getCause() : throwable;
+        LOGGER.error("activateModule - Activation failed - " + module, cause);
+        failActivation(module);
+        showErrorDialog(
+            "Module could not be opened", "An error occurred while opening " + module.getName(),
+            cause instanceof Exception ? (Exception) cause : new Exception(cause),
+            buttonType -> { }
+        );
+      }
+    }));
+  }
+
+  /**
+   * Goes back to the home screen after the {@code module} could not be activated, instead of
+   * displaying the placeholder forever. The module stays open, activating it again will retry the
+   * activation.
+   *
+   * @param module which could not be activated
+   */
+  private void failActivation(WorkbenchModule module) {
+    if (getActiveModule() == module) {
+      openAddModulePage();
+    }
+    setModulePhase(module, Phase.INACTIVE);
+  }
+
+  private void attachModuleView(WorkbenchModule module, Node view) {
+    requireFxThread("attachModuleView");
+    activeModuleView.setValue(view);
+    setModulePhase(module, Phase.ACTIVE);
+  }
+
+  private void timed(WorkbenchModule module, LifecycleMethod method, Runnable call) {
+    timed(module, method, () -> {
+      call.run();
+      return null;
+    });
+  }
+
+  /**
+   * Calls a lifecycle method of the {@code module} and records how long the call took.
+   *
+   * @param module whose lifecycle method is being called
+   * @param method which is being called
+   * @param call   which calls the lifecycle method
+   * @param <T>    type of the result of the lifecycle method
+   * @return the result of the lifecycle method
+   */
+  private <T> T timed(WorkbenchModule module, LifecycleMethod method, Supplier<T> call) {
+    long start = System.nanoTime();
+    try {
+      return call.get();
+    } finally {
+      latencyOf(module, method).record(System.nanoTime() - start);
+    }
+  }
+
+  /**
+   * Calls an asynchronous lifecycle method of the {@code module} and records how long it took
+   * until its result has been completed.
+   *
+   * @param module whose lifecycle method is being called
+   * @param method which is being called
+   * @param call   which calls the lifecycle method
+   * @param <T>    type of the result of the lifecycle method
+   * @return the result of the lifecycle method
+   */
+  private <T> CompletableFuture<T> timedAsync(WorkbenchModule module, LifecycleMethod method,
+                                              Supplier<CompletableFuture<T>> call) {
+    // the module may have been removed by the time the result has been completed
+    LatencyHistogram latency = latencyOf(module, method);
+    long start = System.nanoTime();
+    CompletableFuture<T> result;
+    try {
+      result = call.get();
+    } catch (RuntimeException e) {
+      latency.record(System.nanoTime() - start);
+      throw e;
+    }
+    result.whenComplete((value, throwable) -> latency.record(System.nanoTime() - start));
+    return result;
+  }
+
+  private void setModulePhase(WorkbenchModule module, Phase phase) {
+    LOGGER.trace("setModulePhase - " + module + ": " + phase);
+    modulePhases.put(module, phase);
+  }
+
+  /**
+   * Ensures lifecycle transitions of modules only happen on the JavaFX Application Thread.
+   *
+   * @param operation which is being performed, to be used in the exception message
+   * @throws IllegalStateException if the current thread is not the JavaFX Application Thread
+   */
+  private void requireFxThread(String operation) {
+    if (!Platform.isFxApplicationThread()) {
+      throw new IllegalStateException(operation + " must be called on the JavaFX Application "
+          + "Thread, but was called on: " + Thread.currentThread().getName());
+    }
+  }
+
   private void setupCleanup() {
     Platform.runLater(() -> {
       Scene scene = getScene();
@@ -457,6 +1293,15 @@ public class Workbench extends Control {
         LOGGER.trace("Stage was requested to be closed");
         event.consume(); // we need to perform some cleanup actions first
 
+        // modules which have been prewarmed but never been opened need to be destroyed as well
+        cancelPrewarming();
+        releasePrewarmedModules();
+
+        if (!Objects.isNull(getShutdownTimeout())) {
+          closeModulesConcurrently(stage);
+          return;
+        }
+
         // close all open modules until one returns false
         while (!getOpenModules().isEmpty()) {
           WorkbenchModule openModule = getOpenModules().get(0);
@@ -464,12 +1309,12 @@ public class Workbench extends Control {
             LOGGER.trace("Module " + openModule + " could not be closed yet");
 
             // once module is ready to be closed, start stage closing process over again
-            getModuleCloseable(openModule).thenRun(() -> {
+            getModuleCloseable(openModule).thenRunAsync(() -> {
               LOGGER.trace("moduleCloseable - Stage - thenRun triggered: " + openModule);
               LOGGER.trace(openModule + " restarted stage closing process");
               // re-start closing process, in case other modules are blocking the closing process
               stage.fireEvent(new WindowEvent(stage, WindowEvent.WINDOW_CLOSE_REQUEST));
-            });
+            }, FX_EXECUTOR);
             LOGGER.trace("moduleCloseable - Stage - thenRun set: " + openModule);
 
             break; // interrupt closing until the interrupting module has been safely closed
@@ -484,6 +1329,62 @@ public class Workbench extends Control {
     });
   }
 
+  /**
+   * Closes all open modules concurrently and closes the {@code stage} as soon as all of them have
+   * agreed to being closed or the {@link #shutdownTimeoutProperty()} has been reached.
+   *
+   * @param stage to be closed
+   */
+  private void closeModulesConcurrently(Stage stage) {
+    if (!Objects.isNull(shutdownCoordinator)) {
+      LOGGER.trace("closeModulesConcurrently - Modules are already being closed");
+      return;
+    }
+    List<WorkbenchModule> closingModules = new ArrayList<>(getOpenModules());
+    // go to the home screen first, so no module gets activated while the modules are being closed
+    activeModule.setValue(null);
+    // replace the closeables, so calling close() no longer closes the module on its own while the
+    // modules are being closed concurrently, but only makes it agree to being closed
+    for (WorkbenchModule module : closingModules) {
+      if (!getModuleCloseable(module).isDone()) {
+        moduleCloseableMap.put(module, new CompletableFuture<>());
+      }
+    }
+
+    shutdownCoordinator = new ShutdownCoordinator(getShutdownTimeout(), blocking -> {
+      shutdownCoordinator = null;
+      closingModules.removeAll(blocking);
+      openModules.removeAll(closingModules);
+      closingModules.forEach(module -> {
+        moduleCloseableMap.remove(module);
+        modulePhases.remove(module);
+        modulePreparations.remove(module);
+      });
+      LOGGER.trace("closeModulesConcurrently - Closing stage");
+      stage.close();
+    });
+    for (WorkbenchModule module : closingModules) {
+      CompletableFuture<Boolean> closeable = getModuleCloseable(module);
+      shutdownCoordinator.await(module, destroyAsync(module).thenCompose(
+          agreed -> agreed ? CompletableFuture.completedFuture(true) : closeable));
+    }
+    shutdownCoordinator.start();
+  }
+
+  private CompletableFuture<Boolean> destroyAsync(WorkbenchModule module) {
+    if (getModuleCloseable(module).getNow(false)) {
+      // module has already been closed by calling close()
+      return CompletableFuture.completedFuture(true);
+    }
+    try {
+      return timedAsync(module, LifecycleMethod.DESTROY, module::destroyAsync);
+    } catch (RuntimeException e) {
+      CompletableFuture<Boolean> destruction = new CompletableFuture<>();
+      destruction.completeExceptionally(e);
+      return destruction;
+    }
+  }
+
   /**
    * Opens the {@code module} in a new tab, if it isn't initialized yet or else opens the tab of
    * it.
@@ -491,6 +1392,7 @@ public class Workbench extends Control {
    * @param module the module to be opened or null to go to the home view
    */
   public final void openModule(WorkbenchModule module) {
+    requireFxThread("openModule");
     if (!modules.contains(module)) {
       throw new IllegalArgumentException(
           "Module has not been loaded yet");
@@ -503,6 +1405,7 @@ public class Workbench extends Control {
    * Goes back to the AddModulePage screen where the user can choose between modules.
    */
   public final void openAddModulePage() {
+    requireFxThread("openAddModulePage");
     activeModule.setValue(null);
   }
 
@@ -513,6 +1416,7 @@ public class Workbench extends Control {
    * @return true if closing was successful
    */
   public final boolean closeModule(WorkbenchModule module) {
+    requireFxThread("closeModule");
     LOGGER.trace("closeModule - " + module);
     LOGGER.trace("closeModule - List of open modules: " + openModules);
     Objects.requireNonNull(module);
@@ -541,7 +1445,8 @@ public class Workbench extends Control {
     // if the currently active module is the one that is being closed, deactivate first
     if (oldActive == module) {
       LOGGER.trace("closeModule - " + module + " was deactivated");
-      module.deactivate();
+      timed(module, LifecycleMethod.DEACTIVATE, module::deactivate);
+      setModulePhase(module, Phase.INACTIVE);
     }
     /*
       If module has previously been closed and can now safely be closed, calling destroy() is not
@@ -550,7 +1455,8 @@ public class Workbench extends Control {
       destroy module.
       Note: destroy() will not be called if moduleCloseable was completed with true!
      */
-    if (getModuleCloseable(module).getNow(false) || module.destroy()) {
+    if (getModuleCloseable(module).getNow(false)
+        || timed(module, LifecycleMethod.DESTROY, module::destroy)) {
       LOGGER.trace("closeModule - Destroy: Success - " + module);
       boolean removal = openModules.remove(module);
       moduleCloseableMap.remove(module);
@@ -560,6 +1466,8 @@ public class Workbench extends Control {
         LOGGER.trace("closeModule - Set active module to: " + newActive);
       }
       activeModule.setValue(newActive);
+      modulePhases.remove(module);
+      modulePreparations.remove(module);
       return removal;
     } else {
       /*
@@ -577,7 +1485,8 @@ public class Workbench extends Control {
       LOGGER.trace("closeModule - Destroy: Fail - " + module);
       // if the module that has failed to be destroyed is already open, activate it again
       if (getActiveModule() == module) {
-        module.activate();
+        timed(module, LifecycleMethod.ACTIVATE, module::activate);
+        setModulePhase(module, Phase.ACTIVE);
       }
       openModule(module); // set focus to new module
       return false;
@@ -592,7 +1501,7 @@ public class Workbench extends Control {
    *           This is repeated until all modules are rendered as tiles.
    */
   private int calculateAmountOfPages() {
-    int amountOfModules = getModules().size();
+    int amountOfModules = getDisplayedModules().size();
     int modulesPerPage = getModulesPerPage();
     // if all pages are completely full
     if (amountOfModules % modulesPerPage == 0) {
@@ -620,10 +1529,11 @@ public class Workbench extends Control {
     CompletableFuture<Boolean> moduleCloseable = new CompletableFuture<>();
     moduleCloseableMap.put(module, moduleCloseable);
     LOGGER.trace("moduleCloseable - thenRun set: " + this);
-    moduleCloseable.thenRun(() -> {
+    // close() may be called on any thread, but the module must be closed on the FX thread
+    moduleCloseable.thenRunAsync(() -> {
       LOGGER.trace("moduleCloseable -  thenRun triggered: " + this);
       closeModule(module);
-    });
+    }, FX_EXECUTOR);
   }
 
   /**
@@ -1053,7 +1963,7 @@ public class Workbench extends Control {
    * @return an unmodifiableObservableList of the currently open modules.
    */
   public final ObservableList<WorkbenchModule> getOpenModules() {
-    return FXCollections.unmodifiableObservableList(openModules);
+    return unmodifiableOpenModules;
   }
 
   private ListProperty<WorkbenchModule> openModulesProperty() {
@@ -1070,10 +1980,86 @@ public class Workbench extends Control {
     return modules.get();
   }
 
+  /**
+   * Applies multiple changes to the list of modules at once.
+   * All listeners of {@link #getModules()} are only being notified once, after all changes have
+   * been applied, so pages, tiles and the layout are only being recomputed once.
+   *
+   * @param update which changes the list of all loaded modules passed to it
+   * @implNote Calls of this method may be nested, in which case listeners are being notified once
+   *           the outermost update has been applied. If {@code update} throws an exception, the
+   *           changes which have been made until then are being kept and notified.
+   */
+  public final void batchUpdate(Consumer<ObservableList<WorkbenchModule>> update) {
+    moduleList.beginBatch();
+    try {
+      update.accept(moduleList);
+    } finally {
+      moduleList.endBatch();
+    }
+  }
+
   private ListProperty<WorkbenchModule> modulesProperty() {
     return modules;
   }
 
+  /**
+   * Returns a list of the modules being displayed on the home screen. Contains all modules, unless
+   * modules are being searched for using {@link #moduleSearchTextProperty()}, in which case it only
+   * contains the modules matching the search.
+   *
+   * @return the unmodifiable list of the modules being displayed on the home screen
+   */
+  public final ObservableList<WorkbenchModule> getDisplayedModules() {
+    return unmodifiableDisplayedModules;
+  }
+
+  public final String getModuleSearchText() {
+    return moduleSearchText.get();
+  }
+
+  /**
+   * Defines the text to search the modules by, which are being displayed on the home screen.
+   *
+   * @param moduleSearchText to search the modules by, or an empty text to display all modules
+   */
+  public final void setModuleSearchText(String moduleSearchText) {
+    this.moduleSearchText.set(moduleSearchText);
+  }
+
+  public final StringProperty moduleSearchTextProperty() {
+    return moduleSearchText;
+  }
+
+  public final boolean isModuleSearch() {
+    return moduleSearch.get();
+  }
+
+  public final void setModuleSearch(boolean moduleSearch) {
+    this.moduleSearch.set(moduleSearch);
+  }
+
+  public final BooleanProperty moduleSearchProperty() {
+    return moduleSearch;
+  }
+
+  public final HomeScreenLayout getHomeScreenLayout() {
+    return homeScreenLayout.get();
+  }
+
+  /**
+   * Defines how the tiles of the modules are being laid out on the home screen.
+   *
+   * @param homeScreenLayout to be used on the home screen
+   */
+  public final void setHomeScreenLayout(HomeScreenLayout homeScreenLayout) {
+    this.homeScreenLayout.set(homeScreenLayout);
+  }
+
+  public final ObjectProperty<HomeScreenLayout> homeScreenLayoutProperty() {
+    return homeScreenLayout;
+  }
+
   public final WorkbenchModule getActiveModule() {
     return activeModule.get();
   }
@@ -1082,6 +2068,16 @@ public class Workbench extends Control {
     return activeModule;
   }
 
+  /**
+   * Returns the dispatcher, with which all {@link Tab}s of this workbench register themselves to
+   * get notified about whether they are the active tab.
+   *
+   * @return the {@link ActiveTabDispatcher} of this workbench
+   */
+  public final ActiveTabDispatcher getActiveTabDispatcher() {
+    return activeTabDispatcher;
+  }
+
   public final Node getActiveModuleView() {
     return activeModuleView.get();
   }
@@ -1090,6 +2086,48 @@ public class Workbench extends Control {
     return activeModuleView;
   }
 
+  /**
+   * Returns whether the view of the active module is still being built asynchronously.
+   *
+   * @return true if {@link WorkbenchModule#activateAsync()} of the active module has not been
+   *         completed yet
+   */
+  public final boolean isActiveModuleViewPending() {
+    return !Objects.isNull(pendingActivation);
+  }
+
+  /**
+   * Returns the lifecycle phase the {@code module} is currently in.
+   *
+   * @param module of which the phase should be returned
+   * @return the current phase of the {@code module} or {@link Phase#CLOSED} if it is not open
+   */
+  public final Phase getModulePhase(WorkbenchModule module) {
+    return modulePhases.getOrDefault(module, Phase.CLOSED);
+  }
+
+  /**
+   * Returns a map of all open modules with the lifecycle phase they are currently in.
+   *
+   * @return an unmodifiable map of all open modules with their current {@link Phase}
+   * @implNote The map is only being modified on the JavaFX Application Thread.
+   */
+  public final ObservableMap<WorkbenchModule, Phase> getModulePhases() {
+    return FXCollections.unmodifiableObservableMap(modulePhases);
+  }
+
+  public final Executor getModuleExecutor() {
+    return moduleExecutor.get();
+  }
+
+  public final void setModuleExecutor(Executor moduleExecutor) {
+    this.moduleExecutor.set(moduleExecutor);
+  }
+
+  public final ObjectProperty<Executor> moduleExecutorProperty() {
+    return moduleExecutor;
+  }
+
   public final boolean isSingleModuleLayout() {
     return modules.size() == 1;
   }
@@ -1168,6 +2206,195 @@ public class Workbench extends Control {
     return modulesPerPage;
   }
 
+  public final int getMaxResidentModuleViews() {
+    return maxResidentModuleViews.get();
+  }
+
+  public final void setMaxResidentModuleViews(int maxResidentModuleViews) {
+    this.maxResidentModuleViews.set(maxResidentModuleViews);
+  }
+
+  public final IntegerProperty maxResidentModuleViewsProperty() {
+    return maxResidentModuleViews;
+  }
+
+  /**
+   * Returns the latencies of all calls of the {@code method} of the {@code module} by the
+   * workbench.
+   *
+   * @param module whose latencies should be returned
+   * @param method whose latencies should be returned
+   * @return the {@link LatencyHistogram} of the calls, which may be read from any thread, or an
+   *         empty {@link LatencyHistogram} which isn't being recorded to, if the {@code method} of
+   *         the {@code module} hasn't been called yet
+   */
+  public final LatencyHistogram getLifecycleLatency(WorkbenchModule module,
+                                                    LifecycleMethod method) {
+    Map<LifecycleMethod, LatencyHistogram> histograms = lifecycleLatencies.get(module);
+    LatencyHistogram histogram = Objects.isNull(histograms) ? null : histograms.get(method);
+    return Objects.isNull(histogram) ? new LatencyHistogram() : histogram;
+  }
+
+  /**
+   * Returns the {@link LatencyHistogram} to record the calls of the {@code method} of the
+   * {@code module} to, which is being created on the first call.
+   *
+   * @param module whose lifecycle method is being called
+   * @param method which is being called
+   * @return the {@link LatencyHistogram} of the calls
+   */
+  private LatencyHistogram latencyOf(WorkbenchModule module, LifecycleMethod method) {
+    return lifecycleLatencies
+        .computeIfAbsent(module, key -> new ConcurrentHashMap<>())
+        .computeIfAbsent(method, key -> new LatencyHistogram());
+  }
+
+  /**
+   * Returns a snapshot of the latencies of all lifecycle methods of all modules, which have been
+   * called at least once.
+   *
+   * @return a list of {@link LifecycleLatency}, sorted by module name and lifecycle method
+   */
+  public final List<LifecycleLatency> getLifecycleLatencies() {
+    List<LifecycleLatency> latencies = new ArrayList<>();
+    lifecycleLatencies.forEach((module, histograms) -> {
+      for (LifecycleMethod method : LifecycleMethod.values()) {
+        LatencyHistogram histogram = histograms.get(method);
+        if (!Objects.isNull(histogram) && histogram.getCount() > 0) {
+          latencies.add(new LifecycleLatency(module.getName(), method.name(),
+              histogram.getCount(), toMillis(histogram.getPercentile(50)),
+              toMillis(histogram.getPercentile(99)), toMillis(histogram.getMax())));
+        }
+      }
+    });
+    latencies.sort((first, second) -> first.getModule().compareTo(second.getModule()));
+    return latencies;
+  }
+
+  /**
+   * Removes all recorded latencies of the lifecycle methods of all modules.
+   */
+  public final void resetLifecycleLatencies() {
+    lifecycleLatencies.clear();
+  }
+
+  private static double toMillis(long nanos) {
+    return nanos / (double) TimeUnit.MILLISECONDS.toNanos(1);
+  }
+
+  /**
+   * Registers a {@link LifecycleLatencyMxBean} in the platform MBean server, which exposes the
+   * latencies of the lifecycle methods of all modules of this workbench.
+   *
+   * @return the {@link ObjectName} under which the MBean has been registered
+   * @throws IllegalStateException if the MBean could not be registered
+   * @implNote Calling this method again returns the name of the already registered MBean. Call
+   *           {@link #unregisterLatencyMBean()} to allow this workbench to be garbage collected.
+   */
+  public final synchronized ObjectName registerLatencyMBean() {
+    if (!Objects.isNull(latencyMBeanName)) {
+      return latencyMBeanName;
+    }
+    LifecycleLatencyMxBean mbean = new LifecycleLatencyMxBean() {
+      @Override
+      public List<LifecycleLatency> getLifecycleLatencies() {
+        return Workbench.this.getLifecycleLatencies();
+      }
+
+      @Override
+      public void resetLifecycleLatencies() {
+        Workbench.this.resetLifecycleLatencies();
+      }
+    };
+    try {
+      ObjectName name =
+          new ObjectName(LATENCY_MBEAN_NAME + LATENCY_MBEAN_COUNTER.incrementAndGet());
+      ManagementFactory.getPlatformMBeanServer()
+          .registerMBean(new StandardMBean(mbean, LifecycleLatencyMxBean.class, true), name);
+      latencyMBeanName = name;
+      LOGGER.debug("registerLatencyMBean - Registered MBean: " + name);
+      return name;
+    } catch (JMException e) {
+      throw new IllegalStateException("Latency MBean could not be registered", e);
+    }
+  }
+
+  /**
+   * Unregisters the {@link LifecycleLatencyMxBean} of this workbench, if it has been registered.
+   */
+  public final synchronized void unregisterLatencyMBean() {
+    if (Objects.isNull(latencyMBeanName)) {
+      return;
+    }
+    MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+    try {
+      server.unregisterMBean(latencyMBeanName);
+    } catch (JMException e) {
+      LOGGER.error("unregisterLatencyMBean - MBean could not be unregistered", e);
+    }
+    latencyMBeanName = null;
+  }
+
+  public final Duration getShutdownTimeout() {
+    return shutdownTimeout.get();
+  }
+
+  public final void setShutdownTimeout(Duration shutdownTimeout) {
+    this.shutdownTimeout.set(shutdownTimeout);
+  }
+
+  public final ObjectProperty<Duration> shutdownTimeoutProperty() {
+    return shutdownTimeout;
+  }
+
+  public final boolean isPrewarming() {
+    return prewarming.get();
+  }
+
+  public final void setPrewarming(boolean prewarming) {
+    this.prewarming.set(prewarming);
+  }
+
+  public final BooleanProperty prewarmingProperty() {
+    return prewarming;
+  }
+
+  public final int getMaxPrewarmedModules() {
+    return maxPrewarmedModules.get();
+  }
+
+  public final void setMaxPrewarmedModules(int maxPrewarmedModules) {
+    this.maxPrewarmedModules.set(maxPrewarmedModules);
+  }
+
+  public final IntegerProperty maxPrewarmedModulesProperty() {
+    return maxPrewarmedModules;
+  }
+
+  public final int getModuleViewNodeBudget() {
+    return moduleViewNodeBudget.get();
+  }
+
+  public final void setModuleViewNodeBudget(int moduleViewNodeBudget) {
+    this.moduleViewNodeBudget.set(moduleViewNodeBudget);
+  }
+
+  public final IntegerProperty moduleViewNodeBudgetProperty() {
+    return moduleViewNodeBudget;
+  }
+
+  public final int getTabVirtualizationThreshold() {
+    return tabVirtualizationThreshold.get();
+  }
+
+  public final void setTabVirtualizationThreshold(int tabVirtualizationThreshold) {
+    this.tabVirtualizationThreshold.set(tabVirtualizationThreshold);
+  }
+
+  public final IntegerProperty tabVirtualizationThresholdProperty() {
+    return tabVirtualizationThreshold;
+  }
+
   public final Callback<Workbench, Tab> getTabFactory() {
     return tabFactory.get();
   }
@@ -0,0 +1,62 @@
+package com.dlsc.workbenchfx.model;
+
+import com.dlsc.workbenchfx.Workbench.WorkbenchBuilder;
+import de.jensd.fx.glyphs.fontawesome.FontAwesomeIcon;
+import de.jensd.fx.glyphs.materialdesignicons.MaterialDesignIcon;
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks a {@link WorkbenchModule} to be added to the {@link ModuleIndex} of its project, which is
+ * being generated at compile time by the {@code workbenchfx-processor} annotation processor.
+ *
+ * <p>The annotated class must be a public, non-abstract subclass of {@link WorkbenchModule} with a
+ * public no-argument constructor. At most one icon may be defined.
+ *
+ * @author François Martin
+ * @author Marco Sanfratello
+ * @see WorkbenchBuilder#loadModuleIndex(ClassLoader)
+ */
+@Documented
+@Retention(RetentionPolicy.CLASS)
+@Target(ElementType.TYPE)
+public @interface IndexedModule {
+
+  /**
+   * Returns the name of the module.
+   *
+   * @return the name of the module
+   */
+  String name();
+
+  /**
+   * Returns the category of the module.
+   *
+   * @return the category of the module
+   */
+  String category() default "";
+
+  /**
+   * Returns the {@link FontAwesomeIcon} to be used as the icon of the module, if any.
+   *
+   * @return none or one {@link FontAwesomeIcon}
+   */
+  FontAwesomeIcon[] faIcon() default {};
+
+  /**
+   * Returns the {@link MaterialDesignIcon} to be used as the icon of the module, if any.
+   *
+   * @return none or one {@link MaterialDesignIcon}
+   */
+  MaterialDesignIcon[] mdIcon() default {};
+
+  /**
+   * Returns the url of the image to be used as the icon of the module, if any.
+   *
+   * @return the url of the image or an empty string
+   */
+  String image() default "";
+}
@@ -0,0 +1,99 @@
+package com.dlsc.workbenchfx.model;
+
+import com.dlsc.workbenchfx.Workbench;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import javafx.beans.binding.Bindings;
+import javafx.scene.Node;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Represents a {@link WorkbenchModule} which is only being created once it is being opened for the
+ * first time.
+ *
+ * <p>Until then, name and icon are being provided by its {@link ModuleDescriptor}. Once the module
+ * has been created, all lifecycle methods are being delegated to it, while the {@link Workbench}
+ * keeps referring to this proxy.
+ *
+ * @author François Martin
+ * @author Marco Sanfratello
+ * @see ModuleDescriptor#createProxy()
+ */
+public final class LazyModule extends WorkbenchModule {
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(LazyModule.class.getName());
+
+  private final ModuleDescriptor descriptor;
+  private WorkbenchModule module;
+
+  LazyModule(ModuleDescriptor descriptor) {
+    super(descriptor.getName(), descriptor::createIcon);
+    this.descriptor = descriptor;
+  }
+
+  /**
+   * Returns the module, creating it if it has not been created yet.
+   *
+   * @return the module described by the {@link ModuleDescriptor}
+   */
+  public WorkbenchModule getModule() {
+    if (Objects.isNull(module)) {
+      LOGGER.trace("Creating module " + descriptor);
+      module = descriptor.createModule();
+      module.setProxy(this);
+      Bindings.bindContent(getToolbarControlsLeft(), module.getToolbarControlsLeft());
+      Bindings.bindContent(getToolbarControlsRight(), module.getToolbarControlsRight());
+    }
+    return module;
+  }
+
+  /**
+   * Returns whether the module has already been created.
+   *
+   * @return true if the module has been created
+   */
+  public boolean isLoaded() {
+    return !Objects.isNull(module);
+  }
+
+  public ModuleDescriptor getDescriptor() {
+    return descriptor;
+  }
+
+  @Override
+  public void init(Workbench workbench) {
+    super.init(workbench);
+    getModule().init(workbench);
+  }
+
+  @Override
+  public Node activate() {
+    return getModule().activate();
+  }
+
+  @Override
+  public CompletableFuture<Node> activateAsync() {
+    return getModule().activateAsync();
+  }
+
+  @Override
+  public void deactivate() {
+    getModule().deactivate();
+  }
+
+  @Override
+  public void viewEvicted(Node view) {
+    getModule().viewEvicted(view);
+  }
+
+  @Override
+  public boolean destroy() {
+    return getModule().destroy();
+  }
+
+  @Override
+  public CompletableFuture<Boolean> destroyAsync() {
+    return getModule().destroyAsync();
+  }
+}
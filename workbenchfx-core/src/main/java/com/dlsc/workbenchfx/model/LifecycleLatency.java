@@ -0,0 +1,76 @@
+package com.dlsc.workbenchfx.model;
+
+import com.dlsc.workbenchfx.Workbench;
+import com.dlsc.workbenchfx.model.WorkbenchModule.LifecycleMethod;
+import java.beans.ConstructorProperties;
+
+/**
+ * Represents a snapshot of the latencies of a lifecycle method of a {@link WorkbenchModule}, as
+ * recorded by the {@link Workbench}.
+ *
+ * @author François Martin
+ * @author Marco Sanfratello
+ */
+public final class LifecycleLatency {
+
+  private final String module;
+  private final String method;
+  private final long count;
+  private final double p50Millis;
+  private final double p99Millis;
+  private final double maxMillis;
+
+  /**
+   * Creates a new snapshot of the latencies of a lifecycle method.
+   *
+   * @param module    name of the module
+   * @param method    name of the {@link LifecycleMethod}
+   * @param count     how many times the lifecycle method has been called
+   * @param p50Millis median latency in milliseconds
+   * @param p99Millis 99th percentile of the latencies in milliseconds
+   * @param maxMillis maximum latency in milliseconds
+   */
+  @ConstructorProperties({"module", "method", "count", "p50Millis", "p99Millis", "maxMillis"})
+  public LifecycleLatency(String module, String method, long count,
+                          double p50Millis, double p99Millis, double maxMillis) {
+    this.module = module;
+    this.method = method;
+    this.count = count;
+    this.p50Millis = p50Millis;
+    this.p99Millis = p99Millis;
+    this.maxMillis = maxMillis;
+  }
+
+  public String getModule() {
+    return module;
+  }
+
+  public String getMethod() {
+    return method;
+  }
+
+  public long getCount() {
+    return count;
+  }
+
+  public double getP50Millis() {
+    return p50Millis;
+  }
+
+  public double getP99Millis() {
+    return p99Millis;
+  }
+
+  public double getMaxMillis() {
+    return maxMillis;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public String toString() {
+    return String.format("%s#%s: count=%d, p50=%.3fms, p99=%.3fms, max=%.3fms",
+        module, method, count, p50Millis, p99Millis, maxMillis);
+  }
+}
@@ -0,0 +1,29 @@
+package com.dlsc.workbenchfx.model;
+
+import com.dlsc.workbenchfx.Workbench;
+import java.util.List;
+import javax.management.MXBean;
+
+/**
+ * Exposes the latencies of the lifecycle methods of all modules of a {@link Workbench} via JMX.
+ *
+ * @author François Martin
+ * @author Marco Sanfratello
+ * @see Workbench#registerLatencyMBean()
+ */
+@MXBean
+public interface LifecycleLatencyMxBean {
+
+  /**
+   * Returns the latencies of all lifecycle methods of all modules, which have been called at least
+   * once.
+   *
+   * @return a snapshot of the latencies
+   */
+  List<LifecycleLatency> getLifecycleLatencies();
+
+  /**
+   * Removes all recorded latencies.
+   */
+  void resetLifecycleLatencies();
+}
@@ -0,0 +1,201 @@
+package com.dlsc.workbenchfx.model;
+
+import com.dlsc.workbenchfx.Workbench;
+import com.dlsc.workbenchfx.view.controls.GlyphImageView;
+import com.dlsc.workbenchfx.view.controls.module.Page;
+import com.dlsc.workbenchfx.view.controls.module.Tab;
+import com.dlsc.workbenchfx.view.controls.module.Tile;
+import de.jensd.fx.glyphs.fontawesome.FontAwesomeIcon;
+import de.jensd.fx.glyphs.fontawesome.FontAwesomeIconView;
+import de.jensd.fx.glyphs.materialdesignicons.MaterialDesignIcon;
+import de.jensd.fx.glyphs.materialdesignicons.MaterialDesignIconView;
+import java.util.Objects;
+import java.util.function.Supplier;
+import javafx.scene.Node;
+import javafx.scene.image.Image;
+import javafx.scene.image.ImageView;
+
+/**
+ * Describes a {@link WorkbenchModule} without creating it.
+ *
+ * <p>A descriptor only holds what is needed to display the module in a {@link Tile}, {@link Tab}
+ * or {@link Page}, while the module itself is only being created by the {@code factory} once it
+ * is being opened for the first time. This keeps the startup fast and the memory footprint low,
+ * even if a {@link Workbench} contains a large amount of modules.
+ *
+ * @author François Martin
+ * @author Marco Sanfratello
+ * @see LazyModule
+ */
+public final class ModuleDescriptor {
+
+  private final String name;
+  private final String category;
+  private final FontAwesomeIcon faIcon;
+  private final MaterialDesignIcon mdIcon;
+  private final String imageUrl;
+  private final boolean rasterizedIcon;
+  private final Supplier<WorkbenchModule> factory;
+  private Image image;
+
+  private ModuleDescriptor(ModuleDescriptorBuilder builder) {
+    name = builder.name;
+    category = builder.category;
+    faIcon = builder.faIcon;
+    mdIcon = builder.mdIcon;
+    imageUrl = builder.imageUrl;
+    rasterizedIcon = builder.rasterizedIcon;
+    factory = builder.factory;
+  }
+
+  /**
+   * Creates a builder for {@link ModuleDescriptor}.
+   *
+   * @param name    of the module
+   * @param factory which creates the module once it is being opened for the first time
+   * @return builder object
+   */
+  public static ModuleDescriptorBuilder builder(String name, Supplier<WorkbenchModule> factory) {
+    return new ModuleDescriptorBuilder(name, factory);
+  }
+
+  // Builder
+  public static final class ModuleDescriptorBuilder {
+
+    // Required parameters
+    private final String name;
+    private final Supplier<WorkbenchModule> factory;
+
+    // Optional parameters - initialized to default values
+    private String category = "";
+    private FontAwesomeIcon faIcon;
+    private MaterialDesignIcon mdIcon;
+    private String imageUrl;
+    private boolean rasterizedIcon;
+
+    private ModuleDescriptorBuilder(String name, Supplier<WorkbenchModule> factory) {
+      this.name = name;
+      this.factory = Objects.requireNonNull(factory);
+    }
+
+    /**
+     * Defines a {@link FontAwesomeIcon} as the icon of the module.
+     *
+     * @param icon of the module
+     * @return builder for chaining
+     */
+    public final ModuleDescriptorBuilder icon(FontAwesomeIcon icon) {
+      this.faIcon = icon;
+      return this;
+    }
+
+    /**
+     * Defines a {@link MaterialDesignIcon} as the icon of the module.
+     *
+     * @param icon of the module
+     * @return builder for chaining
+     */
+    public final ModuleDescriptorBuilder icon(MaterialDesignIcon icon) {
+      this.mdIcon = icon;
+      return this;
+    }
+
+    /**
+     * Defines an image as the icon of the module.
+     *
+     * @param imageUrl of the icon, as supported by {@link Image#Image(String)}
+     * @return builder for chaining
+     * @implNote The image is only being loaded once the icon is being displayed for the first
+     *           time.
+     */
+    public final ModuleDescriptorBuilder icon(String imageUrl) {
+      this.imageUrl = imageUrl;
+      return this;
+    }
+
+    /**
+     * Defines whether a glyph icon is being displayed as a {@link GlyphImageView}, which shares
+     * its image with all other icons of the same glyph, size and color, instead of a text node.
+     *
+     * @param rasterizedIcon true to display the glyph icon as an image, false by default
+     * @return builder for chaining
+     */
+    public final ModuleDescriptorBuilder rasterizedIcon(boolean rasterizedIcon) {
+      this.rasterizedIcon = rasterizedIcon;
+      return this;
+    }
+
+    /**
+     * Defines the category the module belongs to.
+     *
+     * @param category of the module
+     * @return builder for chaining
+     */
+    public final ModuleDescriptorBuilder category(String category) {
+      this.category = category;
+      return this;
+    }
+
+    /**
+     * Builds and fully initializes a {@link ModuleDescriptor} object.
+     *
+     * @return the {@link ModuleDescriptor} object
+     */
+    public ModuleDescriptor build() {
+      return new ModuleDescriptor(this);
+    }
+  }
+
+  /**
+   * Creates a {@link LazyModule} for this descriptor, to be added to
+   * {@link Workbench#getModules()}. The module itself is not being created yet.
+   *
+   * @return the proxy of the module
+   */
+  public LazyModule createProxy() {
+    return new LazyModule(this);
+  }
+
+  /**
+   * Creates the module described by this descriptor.
+   *
+   * @return the newly created module
+   * @throws NullPointerException if the {@code factory} returned null
+   */
+  WorkbenchModule createModule() {
+    return Objects.requireNonNull(factory.get(), "Factory of module " + name + " returned null");
+  }
+
+  /**
+   * Creates the icon of the module as a {@link Node}.
+   *
+   * @return the icon of the module
+   */
+  Node createIcon() {
+    if (!Objects.isNull(faIcon)) {
+      return rasterizedIcon ? new GlyphImageView(faIcon) : new FontAwesomeIconView(faIcon);
+    } else if (!Objects.isNull(mdIcon)) {
+      return rasterizedIcon ? new GlyphImageView(mdIcon) : new MaterialDesignIconView(mdIcon);
+    }
+    if (Objects.isNull(image) && !Objects.isNull(imageUrl)) {
+      image = new Image(imageUrl, true);
+    }
+    return new ImageView(image);
+  }
+
+  public String getName() {
+    return name;
+  }
+
+  public String getCategory() {
+    return category;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public String toString() {
+    return name;
+  }
+}
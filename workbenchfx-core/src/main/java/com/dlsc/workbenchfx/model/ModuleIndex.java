@@ -0,0 +1,38 @@
+package com.dlsc.workbenchfx.model;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.ServiceLoader;
+
+/**
+ * Provides the {@link ModuleDescriptor}s of all modules annotated with {@link IndexedModule} in a
+ * project. Implementations are being generated at compile time by the
+ * {@code workbenchfx-processor} annotation processor and registered as a service, so they can be
+ * loaded using {@link #load(ClassLoader)} without scanning the classpath.
+ *
+ * @author François Martin
+ * @author Marco Sanfratello
+ */
+public interface ModuleIndex {
+
+  /**
+   * Returns the descriptors of all indexed modules.
+   *
+   * @return the descriptors, none of the modules are being created yet
+   */
+  List<ModuleDescriptor> getModuleDescriptors();
+
+  /**
+   * Loads the descriptors of all {@link ModuleIndex}es which are registered as a service.
+   *
+   * @param classLoader to be used to look up the registered {@link ModuleIndex}es
+   * @return the descriptors of all indexed modules
+   */
+  static List<ModuleDescriptor> load(ClassLoader classLoader) {
+    List<ModuleDescriptor> descriptors = new ArrayList<>();
+    for (ModuleIndex moduleIndex : ServiceLoader.load(ModuleIndex.class, classLoader)) {
+      descriptors.addAll(moduleIndex.getModuleDescriptors());
+    }
+    return descriptors;
+  }
+}
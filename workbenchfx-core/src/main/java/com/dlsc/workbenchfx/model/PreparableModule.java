@@ -0,0 +1,39 @@
+package com.dlsc.workbenchfx.model;
+
+import com.dlsc.workbenchfx.Workbench;
+
+/**
+ * Marks a {@link WorkbenchModule} which performs the heavy part of its start-up work in a separate
+ * phase, which is being executed outside of the JavaFX Application Thread.
+ *
+ * <p>When a {@link WorkbenchModule} implementing this interface is being opened, the
+ * {@link Workbench} calls the lifecycle methods in the following order:
+ * <ol>
+ *   <li>{@link WorkbenchModule#init(Workbench)} on the JavaFX Application Thread</li>
+ *   <li>{@link #prepare(Workbench)} on a background thread of the module executor</li>
+ *   <li>{@link WorkbenchModule#activateAsync()} on the JavaFX Application Thread, which attaches
+ *       the prepared content to the scene graph</li>
+ * </ol>
+ * While the module is being prepared, its tab is already shown and a placeholder is being displayed
+ * instead of its content. The phase a module is currently in can be observed using
+ * {@link Workbench#getModulePhases()}.
+ *
+ * @author François Martin
+ * @author Marco Sanfratello
+ */
+public interface PreparableModule {
+
+  /**
+   * Gets called on a background thread after {@link WorkbenchModule#init(Workbench)}, whenever the
+   * module is being opened.
+   *
+   * @param workbench the calling workbench object
+   * @implNote Use this method to wire services, load caches and build the nodes of the module's
+   *           content, as long as they are not attached to a scene graph yet. Any exception which
+   *           is thrown will prevent the module from getting attached and will be shown in an error
+   *           dialog when the module is being displayed.
+   * @implSpec This method is <b>never</b> being called on the JavaFX Application Thread, so it
+   *           <b>must not</b> modify nodes which are part of a scene graph.
+   */
+  void prepare(Workbench workbench);
+}
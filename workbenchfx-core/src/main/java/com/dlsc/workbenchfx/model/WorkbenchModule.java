@@ -1,6 +1,7 @@
 package com.dlsc.workbenchfx.model;
 
 import com.dlsc.workbenchfx.Workbench;
+import com.dlsc.workbenchfx.view.controls.GlyphImageView;
 import com.dlsc.workbenchfx.view.controls.ToolbarControl;
 import com.dlsc.workbenchfx.view.controls.ToolbarItem;
 import com.dlsc.workbenchfx.view.controls.module.Tab;
@@ -10,6 +11,8 @@ import de.jensd.fx.glyphs.fontawesome.FontAwesomeIconView;
 import de.jensd.fx.glyphs.materialdesignicons.MaterialDesignIcon;
 import de.jensd.fx.glyphs.materialdesignicons.MaterialDesignIconView;
 import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 import javafx.scene.Node;
@@ -32,11 +35,62 @@ public abstract class WorkbenchModule {
   private static final Logger LOGGER =
       LoggerFactory.getLogger(WorkbenchModule.class.getName());
 
+  /**
+   * Represents the lifecycle phase a module is currently in.
+   *
+   * @see Workbench#getModulePhase(WorkbenchModule)
+   */
+  public enum Phase {
+    /**
+     * The module is not open.
+     */
+    CLOSED,
+    /**
+     * The module is being prepared on a background thread, see {@link PreparableModule}.
+     */
+    PREPARING,
+    /**
+     * The module has been prepared and is waiting to be attached to the scene graph.
+     */
+    PREPARED,
+    /**
+     * The view of the module is being built and attached to the scene graph.
+     */
+    ATTACHING,
+    /**
+     * The module is open and its view is currently being displayed.
+     */
+    ACTIVE,
+    /**
+     * The module is open, but another module or the home screen is currently being displayed.
+     */
+    INACTIVE
+  }
+
+  /**
+   * Represents the lifecycle methods being called by the {@link Workbench}, whose latencies are
+   * being recorded.
+   *
+   * @see Workbench#getLifecycleLatency(WorkbenchModule, LifecycleMethod)
+   */
+  public enum LifecycleMethod {
+    INIT,
+    ACTIVATE,
+    DEACTIVATE,
+    DESTROY
+  }
+
   private Workbench workbench;
   private final String name;
   private FontAwesomeIcon faIcon;
   private MaterialDesignIcon mdIcon;
   private Image imgIcon;
+  private boolean rasterizedIcon;
+  private Supplier<Node> iconFactory;
+  /**
+   * The {@link LazyModule} this module has been created by, if any.
+   */
+  private WorkbenchModule proxy;
 
   // The sets which store the toolbar icons which are displayed in the modules toolbar
   private final ObservableList<ToolbarItem> toolbarControlsLeft =
@@ -81,6 +135,17 @@ public abstract class WorkbenchModule {
     this.imgIcon = icon;
   }
 
+  /**
+   * Constructor to be called by {@link LazyModule}, which creates its icon on demand.
+   *
+   * @param name        of this module
+   * @param iconFactory which creates the icon of this module
+   */
+  WorkbenchModule(String name, Supplier<Node> iconFactory) {
+    this.name = name;
+    this.iconFactory = iconFactory;
+  }
+
   // Lifecycle
 
   /**
@@ -113,6 +178,26 @@ public abstract class WorkbenchModule {
    */
   public abstract Node activate();
 
+  /**
+   * Gets called by the {@link Workbench} whenever the currently displayed content is being switched
+   * to this module. Allows the content of this module to be built asynchronously.
+   *
+   * @return a {@link CompletableFuture} which completes with the content to be displayed in this
+   *         module
+   * @implNote As long as the returned {@link CompletableFuture} has not been completed, the
+   *           {@link Workbench} displays a placeholder instead of the content of this module, while
+   *           the rest of the workbench stays responsive. The {@link CompletableFuture} may be
+   *           completed on any thread, the content will always be added to the scene graph on the
+   *           JavaFX Application Thread.
+   * @implSpec The default implementation calls {@link #activate()} and returns an already
+   *           completed {@link CompletableFuture}. When overriding this method, heavy work should
+   *           be done on a background thread, while only the creation of the returned content may
+   *           touch nodes which are already part of a scene graph.
+   */
+  public CompletableFuture<Node> activateAsync() {
+    return CompletableFuture.completedFuture(activate());
+  }
+
   /**
    * Gets called whenever this module is the currently displayed content and the content is being
    * switched to another module.
@@ -125,6 +210,22 @@ public abstract class WorkbenchModule {
   public void deactivate() {
   }
 
+  /**
+   * Gets called when the view of this module has been removed from the scene graph to free up
+   * memory, while this module is inactive.
+   *
+   * @param view which has been removed from the scene graph
+   * @implNote Views are only being evicted if {@link Workbench#maxResidentModuleViewsProperty()} or
+   *           {@link Workbench#moduleViewNodeBudgetProperty()} have been set. The next time this
+   *           module is being displayed, {@link #activate()} is being called as usual and the
+   *           returned view is being added to the scene graph again.
+   * @implSpec Modules which keep a reference to their view should release it in this method, so
+   *           it can be garbage collected and will be rebuilt on the next call to
+   *           {@link #activate()}.
+   */
+  public void viewEvicted(Node view) {
+  }
+
   /**
    * Gets called when this module is explicitly being closed by the user in the toolbar.
    *
@@ -165,6 +266,25 @@ public abstract class WorkbenchModule {
     return true;
   }
 
+  /**
+   * Gets called instead of {@link #destroy()} when the application is being closed and
+   * {@link Workbench#shutdownTimeoutProperty()} has been set, while all other open modules are
+   * being closed concurrently.
+   *
+   * @return a {@link CompletableFuture} which completes with true if the module should be closed,
+   *         or with false if the module will call {@link #close()} later on
+   * @implNote The application is being closed as soon as all open modules have agreed to being
+   *           closed, or the shutdown timeout has been reached. Modules which have not agreed
+   *           until then are being logged and do not prevent the application from being closed.
+   *           The {@link CompletableFuture} may be completed on any thread.
+   * @implSpec The default implementation calls {@link #destroy()} and returns an already
+   *           completed {@link CompletableFuture}. When overriding this method, long running
+   *           cleanup (e.g. saving to disk) should be done on a background thread.
+   */
+  public CompletableFuture<Boolean> destroyAsync() {
+    return CompletableFuture.completedFuture(destroy());
+  }
+
   public final Workbench getWorkbench() {
     return workbench;
   }
@@ -177,7 +297,17 @@ public abstract class WorkbenchModule {
    *           before closing the module, call {@link #destroy()} before calling {@link #close()}.
    */
   public final void close() {
-    getWorkbench().completeModuleCloseable(this);
+    getWorkbench().completeModuleCloseable(Objects.isNull(proxy) ? this : proxy);
+  }
+
+  /**
+   * Defines the {@link LazyModule} this module has been created by, which is being referred to by
+   * the {@link Workbench} instead of this module.
+   *
+   * @param proxy the {@link LazyModule} of this module
+   */
+  final void setProxy(WorkbenchModule proxy) {
+    this.proxy = proxy;
   }
 
   /**
@@ -198,17 +328,33 @@ public abstract class WorkbenchModule {
 
   /**
    * Returns the icon of this module as a {@link Node}.
+   * Glyph icons are being returned as a {@link FontAwesomeIconView} or
+   * {@link MaterialDesignIconView}, unless {@link #setRasterizedIcon(boolean)} has been enabled.
    * @return the icon of this module as a {@link Node}.
    */
   public final Node getIcon() {
-    if (!Objects.isNull(faIcon)) {
-      return new FontAwesomeIconView(faIcon);
+    if (!Objects.isNull(iconFactory)) {
+      return iconFactory.get();
+    } else if (!Objects.isNull(faIcon)) {
+      return rasterizedIcon ? new GlyphImageView(faIcon) : new FontAwesomeIconView(faIcon);
     } else if (!Objects.isNull(mdIcon)) {
-      return new MaterialDesignIconView(mdIcon);
+      return rasterizedIcon ? new GlyphImageView(mdIcon) : new MaterialDesignIconView(mdIcon);
     }
     return new ImageView(imgIcon);
   }
 
+  /**
+   * Defines whether the glyph icon of this module is being returned by {@link #getIcon()} as a
+   * {@link GlyphImageView}, which shares its image with all other icons of the same glyph, size and
+   * color, instead of a text node. It is still being styled using {@code -fx-fill} and
+   * {@code -fx-font-size}, but it can't be cast to or styled like a {@link javafx.scene.text.Text}.
+   *
+   * @param rasterizedIcon true to display the glyph icon as an image, false by default
+   */
+  protected final void setRasterizedIcon(boolean rasterizedIcon) {
+    this.rasterizedIcon = rasterizedIcon;
+  }
+
   /**
    * Returns an {@link ObservableList} which stores the toolbar items of the module.
    * If it's not empty, the {@link Workbench} creates a pre styled {@link ToolbarControl}
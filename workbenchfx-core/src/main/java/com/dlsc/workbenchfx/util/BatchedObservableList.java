@@ -0,0 +1,80 @@
+package com.dlsc.workbenchfx.util;
+
+import java.util.ArrayList;
+import java.util.List;
+import javafx.collections.ModifiableObservableListBase;
+
+/**
+ * An {@link javafx.collections.ObservableList} which allows multiple changes to be combined into a
+ * single change notification.
+ *
+ * <p>All changes made between {@link #beginBatch()} and {@link #endBatch()} are being reported to
+ * the listeners as one {@link javafx.collections.ListChangeListener.Change} with one sub change per
+ * affected range, once the outermost batch has ended. Outside of a batch, the list behaves like
+ * any other {@link javafx.collections.ObservableList}.
+ *
+ * @param <E> the type of the elements
+ * @author François Martin
+ * @author Marco Sanfratello
+ */
+public final class BatchedObservableList<E> extends ModifiableObservableListBase<E> {
+
+  private final List<E> elements = new ArrayList<>();
+  private int batchDepth;
+
+  /**
+   * Starts a batch, during which listeners are not being notified. Batches may be nested.
+   */
+  public void beginBatch() {
+    batchDepth++;
+    beginChange();
+  }
+
+  /**
+   * Ends a batch. If it was the outermost batch, all listeners are being notified of all changes
+   * which have been made during the batch at once.
+   *
+   * @throws IllegalStateException if no batch has been started
+   */
+  public void endBatch() {
+    if (batchDepth == 0) {
+      throw new IllegalStateException("There is no batch to be ended");
+    }
+    batchDepth--;
+    endChange();
+  }
+
+  /**
+   * Returns whether a batch has been started and not been ended yet.
+   *
+   * @return true if changes are currently being batched
+   */
+  public boolean isBatching() {
+    return batchDepth > 0;
+  }
+
+  @Override
+  public E get(int index) {
+    return elements.get(index);
+  }
+
+  @Override
+  public int size() {
+    return elements.size();
+  }
+
+  @Override
+  protected void doAdd(int index, E element) {
+    elements.add(index, element);
+  }
+
+  @Override
+  protected E doSet(int index, E element) {
+    return elements.set(index, element);
+  }
+
+  @Override
+  protected E doRemove(int index) {
+    return elements.remove(index);
+  }
+}
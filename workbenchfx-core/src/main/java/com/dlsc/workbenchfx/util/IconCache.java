@@ -0,0 +1,164 @@
+package com.dlsc.workbenchfx.util;
+
+import de.jensd.fx.glyphs.GlyphIcon;
+import de.jensd.fx.glyphs.GlyphIcons;
+import de.jensd.fx.glyphs.fontawesome.FontAwesomeIcon;
+import de.jensd.fx.glyphs.fontawesome.FontAwesomeIconView;
+import de.jensd.fx.glyphs.materialdesignicons.MaterialDesignIcon;
+import de.jensd.fx.glyphs.materialdesignicons.MaterialDesignIconView;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import javafx.scene.SnapshotParameters;
+import javafx.scene.image.Image;
+import javafx.scene.paint.Color;
+import javafx.scene.paint.Paint;
+import javafx.scene.transform.Transform;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Rasterizes glyph icons into {@link Image}s, which are being shared by all icons with the same
+ * glyph, size, paint and render scale.
+ *
+ * <p>Displaying an {@link Image} only requires an {@link javafx.scene.image.ImageView}, while
+ * displaying a glyph requires a text node, which needs to be shaped, styled and laid out for every
+ * single icon.
+ *
+ * @author François Martin
+ * @author Marco Sanfratello
+ */
+public final class IconCache {
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(IconCache.class.getName());
+
+  /**
+   * Default amount of images being cached at most.
+   */
+  public static final int DEFAULT_MAX_SIZE = 256;
+
+  private static final IconCache DEFAULT = new IconCache();
+
+  /**
+   * Images in the order of their last access, starting with the least recently used one.
+   */
+  private final Map<Key, Image> images;
+
+  /**
+   * Creates a new {@link IconCache}, which holds {@link #DEFAULT_MAX_SIZE} images at most.
+   */
+  public IconCache() {
+    this(DEFAULT_MAX_SIZE);
+  }
+
+  /**
+   * Creates a new {@link IconCache}, which removes the least recently used image when more than
+   * {@code maxSize} images are being cached. Icons which are still displaying a removed image keep
+   * it, it is only no longer being shared with new icons.
+   *
+   * @param maxSize amount of images being cached at most
+   */
+  public IconCache(int maxSize) {
+    images = new LinkedHashMap<Key, Image>(16, 0.75f, true) {
+      @Override
+      protected boolean removeEldestEntry(Map.Entry<Key, Image> eldest) {
+        return size() > maxSize;
+      }
+    };
+  }
+
+  /**
+   * Returns the {@link IconCache} which is being shared by all icons of the workbench.
+   *
+   * @return the shared {@link IconCache}
+   */
+  public static IconCache getDefault() {
+    return DEFAULT;
+  }
+
+  /**
+   * Returns the image of the {@code glyph}, which is being rasterized on the first call for each
+   * combination of arguments. Must be called on the JavaFX Application Thread.
+   *
+   * @param glyph to be rasterized, either a {@link FontAwesomeIcon} or a
+   *              {@link MaterialDesignIcon}
+   * @param size  of the glyph in pixels
+   * @param paint to fill the glyph with
+   * @param scale of the screen the image is being displayed on, the image is {@code scale} times
+   *              larger than the glyph
+   * @return the rasterized glyph
+   * @throws IllegalArgumentException if the {@code glyph} is of an unsupported type
+   */
+  public Image getImage(GlyphIcons glyph, double size, Paint paint, double scale) {
+    return images.computeIfAbsent(
+        new Key(glyph, size, paint, scale), key -> rasterize(glyph, size, paint, scale));
+  }
+
+  /**
+   * Returns the amount of images which are currently being cached.
+   *
+   * @return the amount of cached images
+   */
+  public int size() {
+    return images.size();
+  }
+
+  /**
+   * Removes all images from the cache, for example after the fonts have changed.
+   */
+  public void clear() {
+    images.clear();
+  }
+
+  private static Image rasterize(GlyphIcons glyph, double size, Paint paint, double scale) {
+    LOGGER.trace("Rasterizing " + glyph + " with size " + size + " and scale " + scale);
+    GlyphIcon<?> glyphView;
+    if (glyph instanceof FontAwesomeIcon) {
+      glyphView = new FontAwesomeIconView((FontAwesomeIcon) glyph);
+    } else if (glyph instanceof MaterialDesignIcon) {
+      glyphView = new MaterialDesignIconView((MaterialDesignIcon) glyph);
+    } else {
+      throw new IllegalArgumentException("Unsupported glyph: " + glyph);
+    }
+    glyphView.setGlyphSize(size);
+    glyphView.setFill(paint);
+    SnapshotParameters parameters = new SnapshotParameters();
+    parameters.setFill(Color.TRANSPARENT);
+    parameters.setTransform(Transform.scale(scale, scale));
+    return glyphView.snapshot(parameters, null);
+  }
+
+  private static final class Key {
+    private final GlyphIcons glyph;
+    private final double size;
+    private final Paint paint;
+    private final double scale;
+
+    private Key(GlyphIcons glyph, double size, Paint paint, double scale) {
+      this.glyph = glyph;
+      this.size = size;
+      this.paint = paint;
+      this.scale = scale;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
+      if (!(other instanceof Key)) {
+        return false;
+      }
+      Key key = (Key) other;
+      return glyph == key.glyph
+          && Double.compare(size, key.size) == 0
+          && Double.compare(scale, key.scale) == 0
+          && Objects.equals(paint, key.paint);
+    }
+
+    @Override
+    public int hashCode() {
+      return Objects.hash(glyph, size, paint, scale);
+    }
+  }
+}
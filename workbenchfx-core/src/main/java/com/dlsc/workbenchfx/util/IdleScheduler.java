@@ -0,0 +1,116 @@
+package com.dlsc.workbenchfx.util;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import javafx.animation.PauseTransition;
+import javafx.event.EventHandler;
+import javafx.scene.Node;
+import javafx.scene.input.InputEvent;
+import javafx.util.Duration;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Runs tasks on the JavaFX Application Thread while the user is idle.
+ *
+ * <p>A task is only being run, once no {@link InputEvent} has been delivered to the {@code
+ * inputSource} for the duration of {@code idleDelay}. Tasks are being run one at a time, in the
+ * order they have been scheduled, with the full {@code idleDelay} in between. As soon as the user
+ * interacts with the {@code inputSource}, no more tasks are being run until the user is idle again.
+ *
+ * @author François Martin
+ * @author Marco Sanfratello
+ */
+public final class IdleScheduler {
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(IdleScheduler.class.getName());
+
+  private final Map<Object, Runnable> tasks = new LinkedHashMap<>();
+  private final PauseTransition idleTimer;
+
+  /**
+   * Creates a new {@link IdleScheduler}.
+   *
+   * @param inputSource the node, whose input events mark the user as not idle
+   * @param idleDelay   how long the user needs to be idle before a task is being run
+   */
+  public IdleScheduler(Node inputSource, Duration idleDelay) {
+    idleTimer = new PauseTransition(idleDelay);
+    idleTimer.setOnFinished(event -> runNext());
+    EventHandler<InputEvent> inputHandler = event -> {
+      if (!tasks.isEmpty()) {
+        // user is interacting, postpone all tasks until the user is idle again
+        idleTimer.playFromStart();
+      }
+    };
+    inputSource.addEventFilter(InputEvent.ANY, inputHandler);
+  }
+
+  /**
+   * Schedules the {@code task} to be run the next time the user is idle. If there already is a
+   * task scheduled with the same {@code key}, it is being replaced while keeping its position.
+   *
+   * @param key  which identifies the task, to be used for {@link #cancel(Object)}
+   * @param task to be run on the JavaFX Application Thread
+   */
+  public void schedule(Object key, Runnable task) {
+    Objects.requireNonNull(key);
+    Objects.requireNonNull(task);
+    LOGGER.trace("Scheduling idle task: " + key);
+    tasks.put(key, task);
+    if (idleTimer.getStatus() != PauseTransition.Status.RUNNING) {
+      idleTimer.playFromStart();
+    }
+  }
+
+  /**
+   * Cancels the task with the {@code key}, if it has not been run yet.
+   *
+   * @param key which identifies the task
+   * @return true if the task was cancelled, false if there was no such task scheduled
+   */
+  public boolean cancel(Object key) {
+    boolean cancelled = !Objects.isNull(tasks.remove(key));
+    if (tasks.isEmpty()) {
+      idleTimer.stop();
+    }
+    return cancelled;
+  }
+
+  /**
+   * Cancels all tasks which have not been run yet.
+   */
+  public void cancelAll() {
+    tasks.clear();
+    idleTimer.stop();
+  }
+
+  /**
+   * Returns whether the task with the {@code key} is scheduled and has not been run yet.
+   *
+   * @param key which identifies the task
+   * @return true if the task is still scheduled
+   */
+  public boolean isScheduled(Object key) {
+    return tasks.containsKey(key);
+  }
+
+  private void runNext() {
+    Iterator<Map.Entry<Object, Runnable>> iterator = tasks.entrySet().iterator();
+    if (!iterator.hasNext()) {
+      return;
+    }
+    Map.Entry<Object, Runnable> next = iterator.next();
+    iterator.remove();
+    LOGGER.trace("Running idle task: " + next.getKey());
+    try {
+      next.getValue().run();
+    } finally {
+      if (!tasks.isEmpty()) {
+        idleTimer.playFromStart();
+      }
+    }
+  }
+}
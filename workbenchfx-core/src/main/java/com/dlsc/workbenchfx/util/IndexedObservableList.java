@@ -0,0 +1,123 @@
+package com.dlsc.workbenchfx.util;
+
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import javafx.collections.ModifiableObservableListBase;
+
+/**
+ * An {@link javafx.collections.ObservableList} of distinct elements, which keeps track of the
+ * position of each element.
+ *
+ * <p>{@link #contains(Object)} takes constant time. {@link #indexOf(Object)} is optimized for
+ * elements being added at the end, in which case it takes constant time. Adding or removing an
+ * element in the middle invalidates the positions of all elements after it, which are being
+ * recomputed by the next lookup of an element after it, taking linear time once. Lookups are
+ * therefore only amortized constant time, as long as there are more lookups than modifications in
+ * the middle. Elements are being compared by identity.
+ *
+ * @param <E> the type of the elements
+ * @author François Martin
+ * @author Marco Sanfratello
+ */
+public final class IndexedObservableList<E> extends ModifiableObservableListBase<E> {
+
+  private final List<E> elements = new ArrayList<>();
+  private final Map<E, Integer> positions = new IdentityHashMap<>();
+  /**
+   * The positions of all elements before this index are up to date.
+   */
+  private int indexedUntil;
+
+  @Override
+  public E get(int index) {
+    return elements.get(index);
+  }
+
+  @Override
+  public int size() {
+    return elements.size();
+  }
+
+  @Override
+  public boolean contains(Object element) {
+    return positions.containsKey(element);
+  }
+
+  @Override
+  public int indexOf(Object element) {
+    Integer position = positions.get(element);
+    if (position == null) {
+      return -1;
+    }
+    if (position >= indexedUntil) {
+      // positions of all elements after a modification may be outdated
+      for (int i = indexedUntil; i < elements.size(); i++) {
+        positions.put(elements.get(i), i);
+      }
+      indexedUntil = elements.size();
+      position = positions.get(element);
+    }
+    return position;
+  }
+
+  @Override
+  public int lastIndexOf(Object element) {
+    return indexOf(element);
+  }
+
+  @Override
+  public boolean remove(Object element) {
+    int index = indexOf(element);
+    if (index == -1) {
+      return false;
+    }
+    remove(index);
+    return true;
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * @throws IllegalArgumentException if the {@code element} is already contained in the list
+   */
+  @Override
+  protected void doAdd(int index, E element) {
+    if (contains(element)) {
+      throw new IllegalArgumentException("Element is already contained: " + element);
+    }
+    elements.add(index, element);
+    positions.put(element, index);
+    if (index == indexedUntil && index == elements.size() - 1) {
+      indexedUntil++;
+    } else {
+      indexedUntil = Math.min(indexedUntil, index);
+    }
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * @throws IllegalArgumentException if the {@code element} is already contained in the list at
+   *                                  another position
+   */
+  @Override
+  protected E doSet(int index, E element) {
+    if (contains(element) && elements.get(index) != element) {
+      throw new IllegalArgumentException("Element is already contained: " + element);
+    }
+    E previous = elements.set(index, element);
+    positions.remove(previous);
+    positions.put(element, index);
+    return previous;
+  }
+
+  @Override
+  protected E doRemove(int index) {
+    E removed = elements.remove(index);
+    positions.remove(removed);
+    indexedUntil = Math.min(indexedUntil, index);
+    return removed;
+  }
+}
@@ -0,0 +1,133 @@
+package com.dlsc.workbenchfx.util;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Records latencies with low overhead and provides approximate percentiles of them.
+ *
+ * <p>Latencies are being counted in logarithmic buckets with microsecond resolution, so each
+ * percentile is accurate to within 12.5% of the actual value, while the maximum is exact.
+ * Recording is lock-free and may happen concurrently to reading from any thread.
+ *
+ * @author François Martin
+ * @author Marco Sanfratello
+ */
+public final class LatencyHistogram {
+
+  /**
+   * Amount of bits being used to split each power of two into sub buckets.
+   */
+  private static final int SUB_BUCKET_BITS = 3;
+  private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+  /**
+   * Values below this amount of microseconds are being counted exactly.
+   */
+  private static final int LINEAR_BUCKETS = SUB_BUCKETS * 2;
+  private static final int LINEAR_BITS = SUB_BUCKET_BITS + 1;
+  /**
+   * Highest power of two of microseconds which is being tracked, about 19 hours.
+   */
+  private static final int MAX_OCTAVE = 36;
+  private static final int BUCKETS = LINEAR_BUCKETS + (MAX_OCTAVE - LINEAR_BITS + 1) * SUB_BUCKETS;
+
+  private final AtomicLongArray buckets = new AtomicLongArray(BUCKETS);
+  private final AtomicLong count = new AtomicLong();
+  private final AtomicLong max = new AtomicLong();
+
+  /**
+   * Records a single latency.
+   *
+   * @param nanos the latency in nanoseconds, negative values are being counted as 0
+   */
+  public void record(long nanos) {
+    long value = Math.max(0, nanos);
+    buckets.incrementAndGet(bucketOf(TimeUnit.NANOSECONDS.toMicros(value)));
+    count.incrementAndGet();
+    max.accumulateAndGet(value, Math::max);
+  }
+
+  /**
+   * Returns how many latencies have been recorded.
+   *
+   * @return the amount of recorded latencies
+   */
+  public long getCount() {
+    return count.get();
+  }
+
+  /**
+   * Returns the highest latency which has been recorded.
+   *
+   * @return the maximum latency in nanoseconds or 0 if no latency has been recorded yet
+   */
+  public long getMax() {
+    return max.get();
+  }
+
+  /**
+   * Returns the latency, which {@code percentile} percent of all recorded latencies are less than
+   * or equal to.
+   *
+   * @param percentile between 0 and 100
+   * @return the approximate latency in nanoseconds or 0 if no latency has been recorded yet
+   * @throws IllegalArgumentException if {@code percentile} is not between 0 and 100
+   */
+  public long getPercentile(double percentile) {
+    if (percentile < 0 || percentile > 100) {
+      throw new IllegalArgumentException("Percentile must be between 0 and 100: " + percentile);
+    }
+    long total = count.get();
+    if (total == 0) {
+      return 0;
+    }
+    long rank = Math.max(1, (long) Math.ceil(percentile / 100 * total));
+    long cumulative = 0;
+    for (int i = 0; i < BUCKETS; i++) {
+      cumulative += buckets.get(i);
+      if (cumulative >= rank) {
+        // the last bucket counts all latencies exceeding the tracked range
+        return i == BUCKETS - 1
+            ? getMax() : Math.min(TimeUnit.MICROSECONDS.toNanos(upperBoundOf(i)), getMax());
+      }
+    }
+    // may happen if latencies are being recorded concurrently
+    return getMax();
+  }
+
+  /**
+   * Removes all recorded latencies.
+   */
+  public void reset() {
+    for (int i = 0; i < BUCKETS; i++) {
+      buckets.set(i, 0);
+    }
+    count.set(0);
+    max.set(0);
+  }
+
+  private static int bucketOf(long micros) {
+    if (micros < LINEAR_BUCKETS) {
+      return (int) micros;
+    }
+    int octave = 63 - Long.numberOfLeadingZeros(micros);
+    if (octave > MAX_OCTAVE) {
+      return BUCKETS - 1;
+    }
+    int subBucket = (int) (micros >>> (octave - SUB_BUCKET_BITS)) & (SUB_BUCKETS - 1);
+    return LINEAR_BUCKETS + (octave - LINEAR_BITS) * SUB_BUCKETS + subBucket;
+  }
+
+  /**
+   * Returns the smallest amount of microseconds, which is not counted in the {@code bucket}.
+   */
+  private static long upperBoundOf(int bucket) {
+    if (bucket < LINEAR_BUCKETS) {
+      return bucket + 1;
+    }
+    int octave = (bucket - LINEAR_BUCKETS) / SUB_BUCKETS + LINEAR_BITS;
+    int subBucket = (bucket - LINEAR_BUCKETS) % SUB_BUCKETS;
+    return (long) (SUB_BUCKETS + subBucket + 1) << (octave - SUB_BUCKET_BITS);
+  }
+}
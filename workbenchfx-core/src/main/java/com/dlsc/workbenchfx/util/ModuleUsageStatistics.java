@@ -0,0 +1,81 @@
+package com.dlsc.workbenchfx.util;
+
+import com.dlsc.workbenchfx.model.WorkbenchModule;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Keeps track of which {@link WorkbenchModule} is usually being opened after another one.
+ *
+ * <p>Each time the displayed module changes from one module to another, the transition is being
+ * counted. The statistics are only kept in memory.
+ *
+ * @author François Martin
+ * @author Marco Sanfratello
+ */
+public final class ModuleUsageStatistics {
+
+  private final Map<WorkbenchModule, Map<WorkbenchModule, Integer>> transitions = new HashMap<>();
+
+  /**
+   * Counts a transition from the {@code previous} to the {@code next} module.
+   *
+   * @param previous module which was displayed before
+   * @param next     module which has been displayed afterwards
+   */
+  public void recordTransition(WorkbenchModule previous, WorkbenchModule next) {
+    if (Objects.isNull(previous) || Objects.isNull(next) || previous == next) {
+      return;
+    }
+    transitions.computeIfAbsent(previous, module -> new HashMap<>()).merge(next, 1, Integer::sum);
+  }
+
+  /**
+   * Returns how many times the {@code next} module has been displayed after the {@code previous}
+   * module.
+   *
+   * @param previous module which was displayed before
+   * @param next     module which has been displayed afterwards
+   * @return the amount of recorded transitions
+   */
+  public int getTransitionCount(WorkbenchModule previous, WorkbenchModule next) {
+    Map<WorkbenchModule, Integer> successors = transitions.get(previous);
+    return Objects.isNull(successors) ? 0 : successors.getOrDefault(next, 0);
+  }
+
+  /**
+   * Predicts which module will be displayed after the {@code current} module.
+   *
+   * @param current      module which is currently being displayed
+   * @param minimumCount how many times a transition needs to have been recorded at least, to be
+   *                     considered for the prediction
+   * @return the module which has most often been displayed after the {@code current} module or
+   *         null, if there is none which was displayed at least {@code minimumCount} times
+   */
+  public WorkbenchModule predictNext(WorkbenchModule current, int minimumCount) {
+    Map<WorkbenchModule, Integer> successors = transitions.get(current);
+    if (Objects.isNull(successors)) {
+      return null;
+    }
+    WorkbenchModule prediction = null;
+    int predictionCount = minimumCount - 1;
+    for (Map.Entry<WorkbenchModule, Integer> successor : successors.entrySet()) {
+      if (successor.getValue() > predictionCount) {
+        prediction = successor.getKey();
+        predictionCount = successor.getValue();
+      }
+    }
+    return prediction;
+  }
+
+  /**
+   * Removes all recorded transitions from and to the {@code module}.
+   *
+   * @param module whose transitions should be removed
+   */
+  public void forget(WorkbenchModule module) {
+    transitions.remove(module);
+    transitions.values().forEach(successors -> successors.remove(module));
+  }
+}
@@ -0,0 +1,196 @@
+package com.dlsc.workbenchfx.util;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * A full text index, which finds items by words of their texts, tolerating typos.
+ *
+ * <p>The words of all texts are being split into trigrams, which map to the items containing them.
+ * An item matches a query, if it contains enough of the trigrams of the query. Since the words of
+ * the query are only padded at their start, each word of the query also matches all words starting
+ * with it. Items can be added and removed incrementally, searching only takes time proportional to
+ * the amount of items sharing trigrams with the query, not to the amount of all items.
+ *
+ * @param <T> the type of the items
+ * @author François Martin
+ * @author Marco Sanfratello
+ */
+public final class SearchIndex<T> {
+
+  /**
+   * The fraction of the trigrams of a query, which need to be contained in an item by default.
+   */
+  public static final double DEFAULT_MIN_SIMILARITY = 0.6;
+
+  private static final String PADDING = "  ";
+  private static final String WORD_SEPARATOR = "[^\\p{L}\\p{N}]+";
+
+  private final double minSimilarity;
+  private final Map<String, Set<T>> itemsByTrigram = new HashMap<>();
+  private final Map<T, Set<String>> trigramsByItem = new HashMap<>();
+
+  /**
+   * Creates a new {@link SearchIndex} using {@link #DEFAULT_MIN_SIMILARITY}.
+   */
+  public SearchIndex() {
+    this(DEFAULT_MIN_SIMILARITY);
+  }
+
+  /**
+   * Creates a new {@link SearchIndex}.
+   *
+   * @param minSimilarity the fraction of the trigrams of a query between 0 (exclusive) and 1
+   *                      (inclusive), which need to be contained in an item for it to match
+   * @throws IllegalArgumentException if {@code minSimilarity} is out of range
+   */
+  public SearchIndex(double minSimilarity) {
+    if (minSimilarity <= 0 || minSimilarity > 1) {
+      throw new IllegalArgumentException("Similarity must be in (0, 1]: " + minSimilarity);
+    }
+    this.minSimilarity = minSimilarity;
+  }
+
+  /**
+   * Adds the {@code item} to the index, so it can be found by all words of its {@code texts}.
+   * If the {@code item} has already been added before, its texts are being replaced.
+   *
+   * @param item  to be added
+   * @param texts to find the {@code item} by
+   */
+  public void add(T item, String... texts) {
+    remove(item);
+    Set<String> trigrams = new HashSet<>();
+    for (String text : texts) {
+      addTrigrams(text, true, trigrams);
+    }
+    trigramsByItem.put(item, trigrams);
+    for (String trigram : trigrams) {
+      itemsByTrigram.computeIfAbsent(trigram, key -> new HashSet<>()).add(item);
+    }
+  }
+
+  /**
+   * Removes the {@code item} from the index.
+   *
+   * @param item to be removed
+   * @return true if the {@code item} was contained in the index
+   */
+  public boolean remove(T item) {
+    Set<String> trigrams = trigramsByItem.remove(item);
+    if (trigrams == null) {
+      return false;
+    }
+    for (String trigram : trigrams) {
+      Set<T> items = itemsByTrigram.get(trigram);
+      items.remove(item);
+      if (items.isEmpty()) {
+        itemsByTrigram.remove(trigram);
+      }
+    }
+    return true;
+  }
+
+  /**
+   * Removes all items from the index.
+   */
+  public void clear() {
+    itemsByTrigram.clear();
+    trigramsByItem.clear();
+  }
+
+  /**
+   * Returns whether the {@code item} has been added to the index.
+   *
+   * @param item to be checked
+   * @return true if the {@code item} is contained in the index
+   */
+  public boolean contains(T item) {
+    return trigramsByItem.containsKey(item);
+  }
+
+  /**
+   * Returns the amount of items in the index.
+   *
+   * @return the amount of items
+   */
+  public int size() {
+    return trigramsByItem.size();
+  }
+
+  /**
+   * Returns whether the {@code query} contains any words to search for.
+   *
+   * @param query to be checked
+   * @return true if {@link #search(String)} would search for the {@code query}
+   */
+  public static boolean isSearchable(String query) {
+    return query != null && !normalize(query).isEmpty();
+  }
+
+  /**
+   * Finds all items matching the {@code query}.
+   *
+   * @param query to search for
+   * @return all matching items along with their similarity to the {@code query} between 0 and 1,
+   *         where 1 means the item contains all trigrams of the {@code query}. Empty if the
+   *         {@code query} doesn't contain any words.
+   */
+  public Map<T, Double> search(String query) {
+    Set<String> queryTrigrams = new HashSet<>();
+    addTrigrams(query, false, queryTrigrams);
+    if (queryTrigrams.isEmpty()) {
+      return Collections.emptyMap();
+    }
+
+    Map<T, Integer> matchedTrigrams = new HashMap<>();
+    for (String trigram : queryTrigrams) {
+      Set<T> items = itemsByTrigram.get(trigram);
+      if (items != null) {
+        for (T item : items) {
+          matchedTrigrams.merge(item, 1, Integer::sum);
+        }
+      }
+    }
+
+    Map<T, Double> results = new HashMap<>();
+    double total = queryTrigrams.size();
+    matchedTrigrams.forEach((item, matched) -> {
+      double similarity = matched / total;
+      if (similarity >= minSimilarity) {
+        results.put(item, similarity);
+      }
+    });
+    return results;
+  }
+
+  private static String normalize(String text) {
+    return text.toLowerCase(Locale.ROOT).replaceAll(WORD_SEPARATOR, " ").trim();
+  }
+
+  /**
+   * Adds the trigrams of all words of the {@code text} to {@code trigrams}.
+   *
+   * @param complete if false, words are not being padded at their end, so they also match longer
+   *                 words starting with them
+   */
+  private static void addTrigrams(String text, boolean complete, Set<String> trigrams) {
+    if (text == null) {
+      return;
+    }
+    String normalized = normalize(text);
+    if (normalized.isEmpty()) {
+      return;
+    }
+    for (String word : normalized.split(" ")) {
+      String padded = PADDING + word + (complete ? " " : "");
+      for (int i = 0; i + 3 <= padded.length(); i++) {
+        trigrams.add(padded.substring(i, i + 3));
+      }
+    }
+  }
+}
@@ -1,10 +1,16 @@
 package com.dlsc.workbenchfx.util;
 
 import com.google.common.base.CharMatcher;
+import java.util.List;
+import java.util.Objects;
 import java.util.function.Consumer;
 import javafx.collections.ListChangeListener;
 import javafx.collections.ObservableList;
 import javafx.scene.Node;
+import javafx.scene.Parent;
+import javafx.scene.Scene;
+import javafx.stage.Screen;
+import javafx.stage.Window;
 
 /**
  * Provides utility methods to do general transformations between different model objects of
@@ -15,6 +21,8 @@ import javafx.scene.Node;
  */
 public final class WorkbenchUtils {
 
+  private static final double DEFAULT_DPI = 96;
+
   /**
    * Utility class should not be possible to be instantiated.
    */
@@ -95,4 +103,45 @@ public final class WorkbenchUtils {
   public static int calculateColumnsPerRow(int modulesPerPage) {
     return modulesPerPage <= 3 ? modulesPerPage : (int) Math.ceil(Math.sqrt(modulesPerPage));
   }
+
+  /**
+   * Counts the nodes of the scene graph starting at {@code node}, including {@code node} itself.
+   *
+   * @param node the root of the scene graph to be counted
+   * @return the amount of nodes in the scene graph or 0 if {@code node} is null
+   */
+  public static int countNodes(Node node) {
+    if (node == null) {
+      return 0;
+    }
+    int count = 1;
+    if (node instanceof Parent) {
+      for (Node child : ((Parent) node).getChildrenUnmodifiable()) {
+        count += countNodes(child);
+      }
+    }
+    return count;
+  }
+
+  /**
+   * Approximates the render scale of the screen the {@code node} is being displayed on, since
+   * JavaFX 8 doesn't expose it.
+   *
+   * @param node which is being displayed
+   * @return the render scale, rounded up to quarters and at least 1
+   */
+  public static double getRenderScale(Node node) {
+    Screen screen = Screen.getPrimary();
+    Scene scene = node.getScene();
+    Window window = Objects.isNull(scene) ? null : scene.getWindow();
+    if (!Objects.isNull(window)) {
+      List<Screen> screens = Screen.getScreensForRectangle(
+          window.getX(), window.getY(), window.getWidth(), window.getHeight());
+      if (!screens.isEmpty()) {
+        screen = screens.get(0);
+      }
+    }
+    // round up to quarters, to keep the amount of cached images low
+    return Math.max(1, Math.ceil(screen.getDpi() / DEFAULT_DPI * 4) / 4);
+  }
 }
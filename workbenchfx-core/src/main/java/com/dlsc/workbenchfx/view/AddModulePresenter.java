@@ -1,8 +1,16 @@
 package com.dlsc.workbenchfx.view;
 
 import com.dlsc.workbenchfx.Workbench;
+import com.dlsc.workbenchfx.util.IdleScheduler;
 import com.dlsc.workbenchfx.view.controls.module.Page;
-import javafx.css.PseudoClass;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import javafx.scene.control.TextField;
+import javafx.scene.input.KeyCode;
+import javafx.util.Callback;
+import javafx.util.Duration;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -17,11 +25,25 @@ public final class AddModulePresenter extends Presenter {
   private static final Logger LOGGER =
       LoggerFactory.getLogger(AddModulePresenter.class.getName());
 
-  private static final PseudoClass ONE_PAGE_STATE = PseudoClass.getPseudoClass("one-page");
+  /**
+   * How many pages are being kept at most, including the pages being prebuilt.
+   */
+  static final int PAGE_CACHE_SIZE = 5;
+  /**
+   * How long the user needs to be idle, before the pages next to the current page are being built.
+   */
+  private static final Duration PREBUILD_IDLE_DELAY = Duration.millis(200);
 
   private final Workbench model;
   private final AddModuleView view;
 
+  /**
+   * Pages which have already been built, by their page index, in the order of their last use.
+   */
+  private final Map<Integer, Page> pageCache = new LinkedHashMap<>(16, 0.75f, true);
+  private Callback<Workbench, Page> cachedPageFactory;
+  private IdleScheduler idleScheduler;
+
   /**
    * Creates a new {@link AddModulePresenter} object for a corresponding {@link AddModuleView}.
    *
@@ -42,11 +64,12 @@ public final class AddModulePresenter extends Presenter {
     updatePageCount(model.getAmountOfPages());
 
     view.setPageFactory(pageIndex -> {
-      Page page = model.getPageFactory().call(model);
-      page.setPageIndex(pageIndex);
+      Page page = getPage(pageIndex);
+      prebuildAdjacentPages(pageIndex);
       return page;
     });
-    view.setMaxPageIndicatorCount(Integer.MAX_VALUE);
+    // the pages are being navigated using the page indicator, which has a constant amount of nodes
+    view.setMaxPageIndicatorCount(1);
   }
 
   /**
@@ -54,7 +77,11 @@ public final class AddModulePresenter extends Presenter {
    */
   @Override
   public final void setupEventHandlers() {
-
+    view.getSearchField().setOnKeyPressed(event -> {
+      if (event.getCode() == KeyCode.ESCAPE) {
+        view.getSearchField().clear();
+      }
+    });
   }
 
   /**
@@ -64,6 +91,8 @@ public final class AddModulePresenter extends Presenter {
   public final void setupValueChangedListeners() {
     model.amountOfPagesProperty().addListener(
         (observable, oldPageCount, newPageCount) -> updatePageCount(newPageCount.intValue()));
+    // show the best matches first
+    model.moduleSearchTextProperty().addListener(observable -> view.setCurrentPageIndex(0));
   }
 
   /**
@@ -71,11 +100,71 @@ public final class AddModulePresenter extends Presenter {
    */
   @Override
   public final void setupBindings() {
-
+    TextField searchField = view.getSearchField();
+    searchField.textProperty().bindBidirectional(model.moduleSearchTextProperty());
+    searchField.visibleProperty().bind(model.moduleSearchProperty());
+    searchField.managedProperty().bind(searchField.visibleProperty());
   }
 
   private void updatePageCount(int amountOfPages) {
     view.setPageCount(amountOfPages);
-    view.pseudoClassStateChanged(ONE_PAGE_STATE, amountOfPages == 1);
+    // pages which don't exist anymore can't be shown again
+    pageCache.entrySet().removeIf(cached -> {
+      if (cached.getKey() >= amountOfPages) {
+        cached.getValue().dispose();
+        return true;
+      }
+      return false;
+    });
+  }
+
+  /**
+   * Returns the page with the {@code pageIndex} from the cache or builds it, if it isn't cached.
+   * All pages of the cache track changes of the modules by themselves, so they only need to be
+   * rebuilt if the page factory has changed.
+   */
+  private Page getPage(int pageIndex) {
+    Callback<Workbench, Page> pageFactory = model.getPageFactory();
+    if (pageFactory != cachedPageFactory) {
+      LOGGER.trace("Page factory has changed, clearing page cache");
+      pageCache.values().forEach(Page::dispose);
+      pageCache.clear();
+      cachedPageFactory = pageFactory;
+    }
+    Page page = pageCache.get(pageIndex);
+    if (Objects.isNull(page)) {
+      LOGGER.trace("Building page " + pageIndex);
+      page = pageFactory.call(model);
+      page.setPageIndex(pageIndex);
+      pageCache.put(pageIndex, page);
+      evictPages();
+    }
+    return page;
+  }
+
+  private void evictPages() {
+    Iterator<Page> leastRecentlyUsed = pageCache.values().iterator();
+    while (pageCache.size() > PAGE_CACHE_SIZE) {
+      Page evicted = leastRecentlyUsed.next();
+      leastRecentlyUsed.remove();
+      evicted.dispose();
+    }
+  }
+
+  /**
+   * Builds the pages before and after the page with the {@code pageIndex} while the user is idle,
+   * so they can be shown right away.
+   */
+  private void prebuildAdjacentPages(int pageIndex) {
+    if (Objects.isNull(idleScheduler)) {
+      idleScheduler = new IdleScheduler(view, PREBUILD_IDLE_DELAY);
+    }
+    idleScheduler.cancelAll();
+    for (int adjacentIndex : new int[] {pageIndex + 1, pageIndex - 1}) {
+      if (adjacentIndex >= 0 && adjacentIndex < model.getAmountOfPages()
+          && !pageCache.containsKey(adjacentIndex)) {
+        idleScheduler.schedule(adjacentIndex, () -> getPage(adjacentIndex));
+      }
+    }
   }
 }
@@ -1,7 +1,9 @@
 package com.dlsc.workbenchfx.view;
 
 import com.dlsc.workbenchfx.model.WorkbenchModule;
+import com.dlsc.workbenchfx.view.controls.module.PageIndicator;
 import javafx.scene.control.Pagination;
+import javafx.scene.control.TextField;
 
 /**
  * Shows the home screen with the {@link WorkbenchModule}s as tiles, using pagination.
@@ -11,6 +13,9 @@ import javafx.scene.control.Pagination;
  */
 public final class AddModuleView extends Pagination implements View {
 
+  private TextField searchField;
+  private PageIndicator pageIndicator;
+
   /**
    * Creates a new {@link AddModuleView}.
    */
@@ -31,7 +36,10 @@ public final class AddModuleView extends Pagination implements View {
    */
   @Override
   public final void initializeParts() {
-
+    searchField = new TextField();
+    searchField.setId("module-search-field");
+    searchField.setPromptText("Search");
+    pageIndicator = new PageIndicator();
   }
 
   /**
@@ -40,7 +48,30 @@ public final class AddModuleView extends Pagination implements View {
   @Override
   public final void layoutParts() {
     getStyleClass().add(Pagination.STYLE_CLASS_BULLET);
+    pageIndicator.pageCountProperty().bind(pageCountProperty());
+    pageIndicator.currentPageIndexProperty().bindBidirectional(currentPageIndexProperty());
+    pageIndicator.visibleProperty().bind(pageCountProperty().greaterThan(1));
+    pageIndicator.managedProperty().bind(pageIndicator.visibleProperty());
   }
 
+  /**
+   * Returns the field to search for modules, which is being laid out above the pages by the
+   * {@link ContentView}.
+   *
+   * @return the field to search for modules
+   */
+  public final TextField getSearchField() {
+    return searchField;
+  }
+
+  /**
+   * Returns the indicator to navigate between the pages, which is being laid out below the pages
+   * by the {@link ContentView} in place of the indicator of the {@link Pagination}.
+   *
+   * @return the indicator to navigate between the pages
+   */
+  public final PageIndicator getPageIndicator() {
+    return pageIndicator;
+  }
 
 }
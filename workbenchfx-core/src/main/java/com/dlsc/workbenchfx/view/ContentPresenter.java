@@ -3,6 +3,10 @@ package com.dlsc.workbenchfx.view;
 import com.dlsc.workbenchfx.Workbench;
 import com.dlsc.workbenchfx.model.WorkbenchModule;
 import com.dlsc.workbenchfx.util.WorkbenchUtils;
+import com.dlsc.workbenchfx.view.controls.module.ModuleGrid;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
 import java.util.Objects;
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
@@ -30,6 +34,25 @@ public final class ContentPresenter extends Presenter {
   private final ObservableMap<WorkbenchModule, Node> openModuleViews =
       FXCollections.observableHashMap();
 
+  /**
+   * The active module, as long as its view is still being built asynchronously and the placeholder
+   * is being displayed instead.
+   */
+  private WorkbenchModule pendingModule;
+
+  /**
+   * Estimated amount of nodes of the views of all modules in {@code openModuleViews}, in the order
+   * in which they have last been displayed, starting with the least recently displayed module.
+   */
+  private final Map<WorkbenchModule, Integer> residentViewSizes = new LinkedHashMap<>();
+  private int residentNodes;
+
+  /**
+   * Grid displaying all modules on the home screen, is only being created once
+   * {@link Workbench.HomeScreenLayout#SCROLLING} is being used.
+   */
+  private ModuleGrid moduleGrid;
+
   /**
    * Creates a new {@link ContentPresenter} object for a corresponding {@link ContentView}.
    *
@@ -49,6 +72,7 @@ public final class ContentPresenter extends Presenter {
   @Override
   public final void initializeViewParts() {
     view.setAddModuleView();
+    updateHomeScreenLayout();
   }
 
   /**
@@ -67,6 +91,7 @@ public final class ContentPresenter extends Presenter {
     model.activeModuleProperty().addListener((observable, oldModule, newModule) -> {
       view.showToolbar(false); // Remove toolbar
       view.hideActiveView();
+      pendingModule = null;
 
       if (Objects.isNull(newModule)) {
         // The active module is null -> therefore setting the addModuleView
@@ -74,20 +99,15 @@ public final class ContentPresenter extends Presenter {
       } else {
         // The active Module is not null -> therefore setting the view of the module
         Node activeModuleView = model.getActiveModuleView();
-
-        Node previousView = openModuleViews.put(newModule, activeModuleView);
-        // if the module returns a different view than what the same module has returned with the
-        // previous call to WorkbenchModule#activate()
-        if (previousView != null && previousView != activeModuleView) {
-          // unload the previous view before loading the new one
-          LOGGER.trace(
-              "unloading previous view, activate() returned different view on " + newModule);
-          view.removeView(previousView);
+        if (Objects.isNull(activeModuleView)) {
+          // The view of the module is still being built -> show the placeholder in the meantime
+          LOGGER.trace("View of " + newModule + " is pending, showing placeholder");
+          pendingModule = newModule;
+          view.showPlaceholder();
+        } else {
+          showModuleView(newModule, activeModuleView);
         }
 
-        view.setContent(activeModuleView);
-        VBox.setVgrow(activeModuleView, Priority.ALWAYS);
-
         // Setting the new chosen module in the toolbar -> the content of the toolbar changes
         // Unbind Modules, which were set before
         view.toolbarControl.toolbarControlsLeftProperty().unbind();
@@ -109,12 +129,113 @@ public final class ContentPresenter extends Presenter {
       }
     });
 
+    // Replace the placeholder, as soon as the view of the pending module has been built
+    model.activeModuleViewProperty().addListener((observable, oldView, newView) -> {
+      WorkbenchModule activeModule = model.getActiveModule();
+      if (!Objects.isNull(newView)
+          && !Objects.isNull(pendingModule)
+          && pendingModule == activeModule) {
+        LOGGER.trace("View of " + activeModule + " is ready, replacing placeholder");
+        pendingModule = null;
+        view.hideActiveView();
+        showModuleView(activeModule, newView);
+      }
+    });
+
     WorkbenchUtils.addListListener(openModules, module -> {
     }, module -> {
         LOGGER.trace("Remove from scene graph view of module: " + model.getActiveModule());
         view.removeView(openModuleViews.get(module));
         openModuleViews.remove(module);
+        releaseResidentView(module);
       });
+
+    // evict views immediately when the budgets are being lowered
+    model.maxResidentModuleViewsProperty().addListener(observable -> evictModuleViews());
+    model.moduleViewNodeBudgetProperty().addListener(observable -> evictModuleViews());
+
+    model.homeScreenLayoutProperty().addListener(observable -> updateHomeScreenLayout());
+  }
+
+  private void updateHomeScreenLayout() {
+    if (model.getHomeScreenLayout() == Workbench.HomeScreenLayout.SCROLLING) {
+      if (Objects.isNull(moduleGrid)) {
+        moduleGrid = new ModuleGrid(model);
+      }
+      view.setModuleGrid(moduleGrid);
+    } else {
+      view.setModuleGrid(null);
+    }
+  }
+
+  private void showModuleView(WorkbenchModule module, Node moduleView) {
+    Node previousView = openModuleViews.put(module, moduleView);
+    // if the module returns a different view than what the same module has returned with the
+    // previous call to WorkbenchModule#activate()
+    if (previousView != null && previousView != moduleView) {
+      // unload the previous view before loading the new one
+      LOGGER.trace("unloading previous view, activate() returned different view on " + module);
+      view.removeView(previousView);
+    }
+
+    view.setContent(moduleView);
+    VBox.setVgrow(moduleView, Priority.ALWAYS);
+
+    if (previousView != moduleView) {
+      releaseResidentView(module);
+      int size = WorkbenchUtils.countNodes(moduleView);
+      residentViewSizes.put(module, size);
+      residentNodes += size;
+    } else {
+      touch(module);
+    }
+    evictModuleViews();
+  }
+
+  /**
+   * Marks the view of the {@code module} as the most recently displayed one, by moving it to the
+   * end of {@code residentViewSizes}.
+   *
+   * @param module whose view is being displayed
+   */
+  private void touch(WorkbenchModule module) {
+    Integer size = residentViewSizes.remove(module);
+    if (!Objects.isNull(size)) {
+      residentViewSizes.put(module, size);
+    }
+  }
+
+  private void releaseResidentView(WorkbenchModule module) {
+    Integer size = residentViewSizes.remove(module);
+    if (!Objects.isNull(size)) {
+      residentNodes -= size;
+    }
+  }
+
+  /**
+   * Removes the views of the least recently displayed inactive modules from the scene graph, until
+   * both {@link Workbench#maxResidentModuleViewsProperty()} and
+   * {@link Workbench#moduleViewNodeBudgetProperty()} are being met again.
+   */
+  private void evictModuleViews() {
+    WorkbenchModule activeModule = model.getActiveModule();
+    Iterator<Map.Entry<WorkbenchModule, Integer>> leastRecentlyUsed =
+        residentViewSizes.entrySet().iterator();
+    while (leastRecentlyUsed.hasNext()
+        && (residentViewSizes.size() > model.getMaxResidentModuleViews()
+        || residentNodes > model.getModuleViewNodeBudget())) {
+      Map.Entry<WorkbenchModule, Integer> entry = leastRecentlyUsed.next();
+      WorkbenchModule module = entry.getKey();
+      if (module == activeModule) {
+        continue; // the view which is being displayed is never evicted
+      }
+      residentNodes -= entry.getValue();
+      leastRecentlyUsed.remove();
+      LOGGER.trace("Evicting view of module: " + module);
+      Node evictedView = openModuleViews.remove(module);
+      view.removeView(evictedView);
+      module.viewEvicted(evictedView);
+    }
   }
 
   /**
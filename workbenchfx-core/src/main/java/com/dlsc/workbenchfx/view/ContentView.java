@@ -2,7 +2,9 @@ package com.dlsc.workbenchfx.view;
 
 import com.dlsc.workbenchfx.model.WorkbenchModule;
 import com.dlsc.workbenchfx.view.controls.ToolbarControl;
+import java.util.Objects;
 import javafx.scene.Node;
+import javafx.scene.control.ProgressIndicator;
 import javafx.scene.layout.BorderPane;
 import javafx.scene.layout.Priority;
 import javafx.scene.layout.StackPane;
@@ -23,7 +25,9 @@ public final class ContentView extends BorderPane implements View {
 
   ToolbarControl toolbarControl;
   AddModuleView addModuleView;
+  VBox addModulePage;
   StackPane moduleViews;
+  StackPane placeholder;
 
   Node activeView;
 
@@ -51,7 +55,14 @@ public final class ContentView extends BorderPane implements View {
   @Override
   public final void initializeParts() {
     toolbarControl = new ToolbarControl();
-    moduleViews = new StackPane(activeView);
+    addModulePage = new VBox(
+        addModuleView.getSearchField(), addModuleView, addModuleView.getPageIndicator());
+    addModulePage.getStyleClass().add("add-module-page");
+    // show the search field only along with the pages
+    addModulePage.visibleProperty().bind(addModuleView.visibleProperty());
+    moduleViews = new StackPane(addModulePage);
+    placeholder = new StackPane(new ProgressIndicator());
+    placeholder.getStyleClass().add("module-placeholder");
   }
 
   /**
@@ -61,6 +72,7 @@ public final class ContentView extends BorderPane implements View {
   public final void layoutParts() {
     setCenter(moduleViews);
     VBox.setVgrow(moduleViews, Priority.ALWAYS);
+    VBox.setVgrow(addModuleView, Priority.ALWAYS);
   }
 
   /**
@@ -79,6 +91,15 @@ public final class ContentView extends BorderPane implements View {
     activeView.setVisible(true);
   }
 
+  /**
+   * Displays a placeholder instead of the content of a module, while the content of the module is
+   * still being built.
+   */
+  final void showPlaceholder() {
+    LOGGER.trace("Setting active view to placeholder");
+    setContent(placeholder);
+  }
+
   final void hideActiveView() {
     activeView.setVisible(false);
     activeView = null;
@@ -97,6 +118,27 @@ public final class ContentView extends BorderPane implements View {
     setTop(show ? toolbarControl : null);
   }
 
+  /**
+   * Displays the {@code moduleGrid} instead of the pages of the {@link AddModuleView} on the home
+   * screen.
+   *
+   * @param moduleGrid to be displayed, or null to display the pages again
+   */
+  final void setModuleGrid(Node moduleGrid) {
+    Node homeScreen = Objects.isNull(moduleGrid) ? addModuleView : moduleGrid;
+    if (addModulePage.getChildren().get(1) != homeScreen) {
+      LOGGER.trace("Setting home screen to " + homeScreen);
+      VBox.setVgrow(homeScreen, Priority.ALWAYS);
+      // the search field always stays on top, the page indicator is only needed for the pages
+      if (Objects.isNull(moduleGrid)) {
+        addModulePage.getChildren().setAll(
+            addModuleView.getSearchField(), addModuleView, addModuleView.getPageIndicator());
+      } else {
+        addModulePage.getChildren().setAll(addModuleView.getSearchField(), moduleGrid);
+      }
+    }
+  }
+
   final void setAddModuleView() {
     LOGGER.trace("Setting active view to addModuleView");
     activeView = addModuleView;
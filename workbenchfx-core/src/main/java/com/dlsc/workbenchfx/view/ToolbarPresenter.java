@@ -6,6 +6,7 @@ import com.dlsc.workbenchfx.view.controls.ToolbarItem;
 import com.dlsc.workbenchfx.view.controls.selectionstrip.TabCell;
 import java.util.Objects;
 import javafx.beans.InvalidationListener;
+import javafx.beans.binding.Bindings;
 import javafx.collections.ListChangeListener;
 import javafx.collections.ObservableList;
 import javafx.css.PseudoClass;
@@ -155,6 +156,10 @@ public final class ToolbarPresenter extends Presenter {
   public final void setupBindings() {
     // Binds content of the SelectionStrip to the Workbench content
     view.tabBar.itemsProperty().bindContent(openModules);
+    // Only creates the visible tabs once too many modules are open
+    view.tabBar.virtualizedProperty().bind(
+        Bindings.size(openModules).greaterThan(model.tabVirtualizationThresholdProperty())
+    );
 
     // Bind items from toolbar to the ones of the workbench
     view.toolbarControl.toolbarControlsLeftProperty().bindContent(toolbarControlsLeft);
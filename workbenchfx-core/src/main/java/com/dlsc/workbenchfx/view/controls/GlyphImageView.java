@@ -0,0 +1,177 @@
+package com.dlsc.workbenchfx.view.controls;
+
+import com.dlsc.workbenchfx.util.IconCache;
+import com.dlsc.workbenchfx.util.WorkbenchUtils;
+import de.jensd.fx.glyphs.GlyphIcons;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import javafx.beans.InvalidationListener;
+import javafx.css.CssMetaData;
+import javafx.css.SimpleStyleableDoubleProperty;
+import javafx.css.SimpleStyleableObjectProperty;
+import javafx.css.StyleConverter;
+import javafx.css.Styleable;
+import javafx.css.StyleableDoubleProperty;
+import javafx.css.StyleableObjectProperty;
+import javafx.css.StyleableProperty;
+import javafx.scene.image.Image;
+import javafx.scene.image.ImageView;
+import javafx.scene.paint.Color;
+import javafx.scene.paint.Paint;
+import javafx.scene.text.Font;
+
+/**
+ * Displays a glyph icon as an {@link Image} of the {@link IconCache}, instead of a text node.
+ *
+ * <p>Just like the glyph views of FontAwesomeFX, it has the style class {@code glyph-icon} and
+ * is being styled using {@code -fx-fill} and {@code -fx-font-size}. Whenever one of them changes,
+ * the image is being swapped with the corresponding cached image.
+ *
+ * @author François Martin
+ * @author Marco Sanfratello
+ */
+public class GlyphImageView extends ImageView {
+
+  private final GlyphIcons glyph;
+  private final IconCache iconCache;
+
+  private final StyleableObjectProperty<Paint> fill =
+      new SimpleStyleableObjectProperty<>(StyleableProperties.FILL, this, "fill", Color.BLACK);
+  private final StyleableDoubleProperty glyphSize = new SimpleStyleableDoubleProperty(
+      StyleableProperties.GLYPH_SIZE, this, "glyphSize", Font.getDefault().getSize());
+
+  /**
+   * Constructs a new {@link GlyphImageView} using the shared {@link IconCache}.
+   *
+   * @param glyph to be displayed
+   */
+  public GlyphImageView(GlyphIcons glyph) {
+    this(glyph, IconCache.getDefault());
+  }
+
+  /**
+   * Constructs a new {@link GlyphImageView}.
+   *
+   * @param glyph     to be displayed
+   * @param iconCache which rasterizes the {@code glyph}
+   */
+  public GlyphImageView(GlyphIcons glyph, IconCache iconCache) {
+    this.glyph = glyph;
+    this.iconCache = iconCache;
+    getStyleClass().add("glyph-icon");
+    setPreserveRatio(true);
+    setSmooth(true);
+
+    InvalidationListener updateImageListener = observable -> updateImage();
+    fill.addListener(updateImageListener);
+    glyphSize.addListener(updateImageListener);
+    sceneProperty().addListener(updateImageListener);
+  }
+
+  private void updateImage() {
+    if (Objects.isNull(getScene())) {
+      // the image is only needed once this view is being displayed
+      return;
+    }
+    double scale = WorkbenchUtils.getRenderScale(this);
+    Image image = iconCache.getImage(glyph, getGlyphSize(), getFill(), scale);
+    setImage(image);
+    setFitWidth(image.getWidth() / scale);
+  }
+
+  public final GlyphIcons getGlyph() {
+    return glyph;
+  }
+
+  public final Paint getFill() {
+    return fill.get();
+  }
+
+  /**
+   * Defines the {@link Paint} to fill the glyph with.
+   *
+   * @param fill of the glyph
+   */
+  public final void setFill(Paint fill) {
+    this.fill.set(fill);
+  }
+
+  public final StyleableObjectProperty<Paint> fillProperty() {
+    return fill;
+  }
+
+  public final double getGlyphSize() {
+    return glyphSize.get();
+  }
+
+  /**
+   * Defines the size of the glyph in pixels.
+   *
+   * @param glyphSize of the glyph
+   */
+  public final void setGlyphSize(double glyphSize) {
+    this.glyphSize.set(glyphSize);
+  }
+
+  public final StyleableDoubleProperty glyphSizeProperty() {
+    return glyphSize;
+  }
+
+  private static class StyleableProperties {
+
+    private static final CssMetaData<GlyphImageView, Paint> FILL =
+        new CssMetaData<GlyphImageView, Paint>(
+            "-fx-fill", StyleConverter.getPaintConverter(), Color.BLACK) {
+          @Override
+          public boolean isSettable(GlyphImageView view) {
+            return !view.fill.isBound();
+          }
+
+          @Override
+          public StyleableProperty<Paint> getStyleableProperty(GlyphImageView view) {
+            return view.fill;
+          }
+        };
+
+    private static final CssMetaData<GlyphImageView, Number> GLYPH_SIZE =
+        new CssMetaData<GlyphImageView, Number>(
+            "-fx-font-size", StyleConverter.getSizeConverter(), Font.getDefault().getSize()) {
+          @Override
+          public boolean isSettable(GlyphImageView view) {
+            return !view.glyphSize.isBound();
+          }
+
+          @Override
+          public StyleableProperty<Number> getStyleableProperty(GlyphImageView view) {
+            return view.glyphSize;
+          }
+        };
+
+    private static final List<CssMetaData<? extends Styleable, ?>> CSS_META_DATA;
+
+    static {
+      List<CssMetaData<? extends Styleable, ?>> cssMetaData =
+          new ArrayList<>(ImageView.getClassCssMetaData());
+      cssMetaData.add(FILL);
+      cssMetaData.add(GLYPH_SIZE);
+      CSS_META_DATA = Collections.unmodifiableList(cssMetaData);
+    }
+  }
+
+  /**
+   * Returns the {@link CssMetaData} associated with this class, including the
+   * {@link CssMetaData} of its super classes.
+   *
+   * @return the {@link CssMetaData} of this class
+   */
+  public static List<CssMetaData<? extends Styleable, ?>> getClassCssMetaData() {
+    return StyleableProperties.CSS_META_DATA;
+  }
+
+  @Override
+  public List<CssMetaData<? extends Styleable, ?>> getCssMetaData() {
+    return getClassCssMetaData();
+  }
+}
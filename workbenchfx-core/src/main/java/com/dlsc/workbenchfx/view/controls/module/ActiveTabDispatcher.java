@@ -0,0 +1,101 @@
+package com.dlsc.workbenchfx.view.controls.module;
+
+import com.dlsc.workbenchfx.Workbench;
+import com.dlsc.workbenchfx.model.WorkbenchModule;
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import javafx.beans.value.ObservableValue;
+
+/**
+ * Keeps {@link Tab#activeTabProperty()} of all {@link Tab}s of a {@link Workbench} up to date.
+ *
+ * <p>Instead of every {@link Tab} listening to the active module on its own, the {@link Tab}s are
+ * being registered by their module. Switching the active module therefore only updates the
+ * {@link Tab}s of the previously and the newly active module, independent of the amount of
+ * {@link Tab}s. {@link Tab}s which are being discarded should be removed using
+ * {@link #unregister(Tab)}, they are only being referenced weakly in case they are not.
+ *
+ * @author François Martin
+ * @author Marco Sanfratello
+ */
+public final class ActiveTabDispatcher {
+
+  private final ObservableValue<WorkbenchModule> activeModule;
+  private final Map<WorkbenchModule, List<WeakReference<Tab>>> tabs = new HashMap<>();
+
+  /**
+   * Creates a new {@link ActiveTabDispatcher}.
+   *
+   * @param activeModule the module which is currently being displayed
+   */
+  public ActiveTabDispatcher(ObservableValue<WorkbenchModule> activeModule) {
+    this.activeModule = activeModule;
+    activeModule.addListener((observable, oldModule, newModule) -> {
+      setActive(oldModule, false);
+      setActive(newModule, true);
+    });
+  }
+
+  /**
+   * Moves the {@code tab} from the {@link Tab}s of {@code oldModule} to the ones of {@code
+   * newModule} and updates whether it's active.
+   */
+  void moduleChanged(Tab tab, WorkbenchModule oldModule, WorkbenchModule newModule) {
+    removeTab(oldModule, tab);
+    if (newModule != null) {
+      tabs.computeIfAbsent(newModule, module -> new ArrayList<>(1)).add(new WeakReference<>(tab));
+    }
+    tab.setActiveTab(newModule != null && newModule.equals(activeModule.getValue()));
+  }
+
+  /**
+   * Removes the {@code tab}, which is being discarded, so it is no longer being updated. It is
+   * being registered again as soon as its module changes.
+   *
+   * @param tab to be unregistered
+   */
+  public void unregister(Tab tab) {
+    removeTab(tab.getModule(), tab);
+  }
+
+  private void removeTab(WorkbenchModule module, Tab tab) {
+    List<WeakReference<Tab>> moduleTabs = module == null ? null : tabs.get(module);
+    if (moduleTabs == null) {
+      return;
+    }
+    moduleTabs.removeIf(reference -> reference.get() == null || reference.get() == tab);
+    if (moduleTabs.isEmpty()) {
+      tabs.remove(module);
+    }
+  }
+
+  private void setActive(WorkbenchModule module, boolean active) {
+    List<WeakReference<Tab>> moduleTabs = module == null ? null : tabs.get(module);
+    if (moduleTabs == null) {
+      return;
+    }
+    for (Iterator<WeakReference<Tab>> iterator = moduleTabs.iterator(); iterator.hasNext(); ) {
+      Tab tab = iterator.next().get();
+      if (tab == null) {
+        // the tab has been discarded
+        iterator.remove();
+      } else {
+        tab.setActiveTab(active);
+      }
+    }
+    if (moduleTabs.isEmpty()) {
+      tabs.remove(module);
+    }
+  }
+
+  /**
+   * Returns the amount of modules which have any registered {@link Tab}s.
+   */
+  int size() {
+    return tabs.size();
+  }
+}
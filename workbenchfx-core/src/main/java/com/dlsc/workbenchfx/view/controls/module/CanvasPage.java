@@ -0,0 +1,33 @@
+package com.dlsc.workbenchfx.view.controls.module;
+
+import com.dlsc.workbenchfx.Workbench;
+import com.dlsc.workbenchfx.model.WorkbenchModule;
+import javafx.scene.control.Skin;
+
+/**
+ * Represents a {@link Page} which draws all of its tiles onto a single canvas, instead of adding a
+ * {@link TileSkin} per tile to the scene graph.
+ *
+ * <p>Is meant for large amounts of {@link WorkbenchModule}s on slow machines and can be used
+ * by passing {@code CanvasPage::new} to {@link Workbench.WorkbenchBuilder#pageFactory}. Since
+ * the tiles are being drawn by {@link CanvasPageSkin}, custom skins of tiles aren't being used.
+ *
+ * @author François Martin
+ * @author Marco Sanfratello
+ */
+public class CanvasPage extends Page {
+
+  /**
+   * Constructs a new {@link CanvasPage}.
+   *
+   * @param workbench which created this {@link CanvasPage}
+   */
+  public CanvasPage(Workbench workbench) {
+    super(workbench);
+  }
+
+  @Override
+  protected Skin<?> createDefaultSkin() {
+    return new CanvasPageSkin(this);
+  }
+}
@@ -0,0 +1,461 @@
+package com.dlsc.workbenchfx.view.controls.module;
+
+import com.dlsc.workbenchfx.util.IconCache;
+import com.dlsc.workbenchfx.util.WorkbenchUtils;
+import com.dlsc.workbenchfx.view.controls.GlyphImageView;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.WeakHashMap;
+import javafx.beans.InvalidationListener;
+import javafx.beans.Observable;
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import javafx.css.PseudoClass;
+import javafx.event.Event;
+import javafx.event.EventType;
+import javafx.geometry.Insets;
+import javafx.geometry.Pos;
+import javafx.geometry.VPos;
+import javafx.scene.Cursor;
+import javafx.scene.Node;
+import javafx.scene.SnapshotParameters;
+import javafx.scene.canvas.Canvas;
+import javafx.scene.canvas.GraphicsContext;
+import javafx.scene.control.SkinBase;
+import javafx.scene.image.Image;
+import javafx.scene.image.ImageView;
+import javafx.scene.input.MouseEvent;
+import javafx.scene.layout.BackgroundFill;
+import javafx.scene.layout.Pane;
+import javafx.scene.layout.StackPane;
+import javafx.scene.paint.Color;
+import javafx.scene.text.Font;
+import javafx.scene.text.Text;
+import javafx.scene.text.TextAlignment;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Represents the skin of the corresponding {@link CanvasPage}.
+ *
+ * <p>Draws all tiles of the page onto one {@link Canvas}, using the icons of the
+ * {@link IconCache} and wrapping the names of the modules once per name. The tiles are being
+ * styled by the same CSS rules as the {@link TileSkin}, which are being applied to a hidden
+ * template of one tile. Hovering and clicking a tile is being hit-tested on the canvas and
+ * forwarded to the corresponding {@link Tile} as mouse events, so its behavior stays the same.
+ *
+ * @author François Martin
+ * @author Marco Sanfratello
+ */
+public class CanvasPageSkin extends SkinBase<Page> {
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(CanvasPageSkin.class.getName());
+
+  private static final PseudoClass HOVER_STATE = PseudoClass.getPseudoClass("hover");
+  private static final int NO_TILE = -1;
+
+  private final ObservableList<Tile> tiles;
+  private final Canvas canvas = new Canvas();
+  private final InvalidationListener redrawListener = observable -> requestRedraw();
+  private final ListChangeListener<Tile> tilesChangedListener = this::onTilesChanged;
+
+  // hidden template of a tile, which the CSS of the tiles is being applied to
+  private TileGridPane styleTilePane;
+  private StackPane styleTileBox;
+  private StackPane styleHoveredTileBox;
+  private Text styleGlyph;
+  private Pane styleTextLbl;
+  private Text styleText;
+
+  private final Text measuringText = new Text();
+  private final Map<String, List<String>> wrappedNames = new HashMap<>();
+  private Font wrappedFont;
+  private double wrappedWidth;
+  private final Map<Node, Image> iconSnapshots = new WeakHashMap<>();
+
+  // the geometry of the last layout pass, used for drawing and hit-testing
+  private double gridX;
+  private double gridY;
+  private double cellWidth;
+  private double cellHeight;
+  private double hgap;
+  private double vgap;
+  private int columns = 1;
+
+  private boolean dirty = true;
+  private int hoveredTile = NO_TILE;
+
+  /**
+   * Creates a new {@link CanvasPageSkin} object for a corresponding {@link Page}.
+   *
+   * @param page the {@link Page} for which this Skin is created
+   */
+  public CanvasPageSkin(Page page) {
+    super(page);
+    tiles = page.getTiles();
+
+    initializeParts();
+    setupEventHandlers();
+    setupListeners();
+
+    getChildren().addAll(canvas, styleTilePane);
+  }
+
+  private void initializeParts() {
+    styleGlyph = new Text();
+    styleGlyph.getStyleClass().add("glyph-icon");
+    StackPane styleIcon = new StackPane(styleGlyph);
+    styleIcon.getStyleClass().add("icon");
+    styleText = new Text();
+    styleText.getStyleClass().add("text");
+    styleTextLbl = new StackPane(styleText);
+    styleTextLbl.getStyleClass().add("text-lbl");
+    styleTileBox = new StackPane(styleIcon, styleTextLbl);
+    styleTileBox.getStyleClass().add("tile-box");
+    styleHoveredTileBox = new StackPane();
+    styleHoveredTileBox.getStyleClass().add("tile-box");
+    styleHoveredTileBox.pseudoClassStateChanged(HOVER_STATE, true);
+    styleTilePane = new TileGridPane();
+    styleTilePane.getStyleClass().add("tile-pane");
+    styleTilePane.getChildren().addAll(styleTileBox, styleHoveredTileBox);
+    styleTilePane.setVisible(false);
+    styleTilePane.setManaged(false);
+  }
+
+  private void setupEventHandlers() {
+    canvas.addEventHandler(MouseEvent.MOUSE_MOVED,
+        event -> setHoveredTile(getTileIndex(event.getX(), event.getY()), event));
+    canvas.addEventHandler(MouseEvent.MOUSE_EXITED, event -> setHoveredTile(NO_TILE, event));
+    canvas.addEventHandler(MouseEvent.MOUSE_CLICKED, event -> {
+      int tileIndex = getTileIndex(event.getX(), event.getY());
+      if (tileIndex != NO_TILE) {
+        forwardEvent(tiles.get(tileIndex), event, MouseEvent.MOUSE_CLICKED);
+      }
+    });
+  }
+
+  private void setupListeners() {
+    tiles.addListener(tilesChangedListener);
+    tiles.forEach(this::addTileListeners);
+    // redraw as soon as the CSS of the template changes
+    Observable[] styles = {
+        styleTilePane.paddingProperty(), styleTilePane.hgapProperty(),
+        styleTilePane.vgapProperty(), styleTilePane.alignmentProperty(),
+        styleTileBox.paddingProperty(), styleTileBox.prefWidthProperty(),
+        styleTileBox.prefHeightProperty(), styleTileBox.backgroundProperty(),
+        styleTileBox.effectProperty(), styleHoveredTileBox.backgroundProperty(),
+        styleHoveredTileBox.effectProperty(), styleGlyph.fillProperty(),
+        styleGlyph.fontProperty(), styleTextLbl.paddingProperty(), styleText.fillProperty(),
+        styleText.fontProperty()
+    };
+    for (Observable style : styles) {
+      style.addListener(redrawListener);
+    }
+  }
+
+  private void onTilesChanged(ListChangeListener.Change<? extends Tile> change) {
+    while (change.next()) {
+      change.getRemoved().forEach(this::removeTileListeners);
+      change.getAddedSubList().forEach(this::addTileListeners);
+    }
+    hoveredTile = NO_TILE;
+    requestRedraw();
+  }
+
+  private void addTileListeners(Tile tile) {
+    // the icon of a tile is only being created once it's being drawn
+    tile.moduleProperty().addListener(redrawListener);
+    tile.nameProperty().addListener(redrawListener);
+    tile.iconProperty().addListener(redrawListener);
+  }
+
+  private void removeTileListeners(Tile tile) {
+    tile.moduleProperty().removeListener(redrawListener);
+    tile.nameProperty().removeListener(redrawListener);
+    tile.iconProperty().removeListener(redrawListener);
+  }
+
+  /**
+   * Draws the tiles again on the next layout pass, so multiple changes only cause one redraw.
+   */
+  private void requestRedraw() {
+    dirty = true;
+    getSkinnable().requestLayout();
+  }
+
+  @Override
+  protected void layoutChildren(double x, double y, double w, double h) {
+    Insets insets = styleTilePane.getInsets();
+    double contentWidth = w - insets.getLeft() - insets.getRight();
+    double contentHeight = h - insets.getTop() - insets.getBottom();
+    int columnCount = getColumnCount();
+    double newCellWidth = snapSize(styleTileBox.prefWidth(-1));
+    double newCellHeight = snapSize(styleTileBox.prefHeight(-1));
+    double newHgap = snapSpace(styleTilePane.getHgap());
+    double newVgap = snapSpace(styleTilePane.getVgap());
+    double gridWidth = getGridSize(columnCount, newCellWidth, newHgap);
+    double gridHeight = getGridSize(getRowCount(), newCellHeight, newVgap);
+    Pos alignment = styleTilePane.getAlignment();
+    double newGridX = snapPosition(insets.getLeft() + Math.max(0,
+        (contentWidth - gridWidth) * TileGridPane.getFraction(alignment.getHpos())));
+    double newGridY = snapPosition(insets.getTop() + Math.max(0,
+        (contentHeight - gridHeight) * TileGridPane.getFraction(alignment.getVpos())));
+
+    if (canvas.getWidth() != w || canvas.getHeight() != h || newGridX != gridX
+        || newGridY != gridY || newCellWidth != cellWidth || newCellHeight != cellHeight
+        || newHgap != hgap || newVgap != vgap || columnCount != columns) {
+      canvas.setWidth(w);
+      canvas.setHeight(h);
+      gridX = newGridX;
+      gridY = newGridY;
+      cellWidth = newCellWidth;
+      cellHeight = newCellHeight;
+      hgap = newHgap;
+      vgap = newVgap;
+      columns = columnCount;
+      dirty = true;
+    }
+    canvas.relocate(x, y);
+    if (dirty) {
+      draw();
+    }
+  }
+
+  private void draw() {
+    LOGGER.trace("Drawing " + tiles.size() + " tiles");
+    dirty = false;
+    GraphicsContext graphics = canvas.getGraphicsContext2D();
+    graphics.clearRect(0, 0, canvas.getWidth(), canvas.getHeight());
+    for (int i = 0; i < tiles.size(); i++) {
+      drawTile(graphics, i);
+    }
+  }
+
+  private void drawTile(GraphicsContext graphics, int tileIndex) {
+    double cellX = getCellX(tileIndex);
+    double cellY = getCellY(tileIndex);
+    StackPane tileBox = tileIndex == hoveredTile ? styleHoveredTileBox : styleTileBox;
+
+    // background along with its shadow
+    graphics.save();
+    graphics.setEffect(tileBox.getEffect());
+    if (!Objects.isNull(tileBox.getBackground())) {
+      for (BackgroundFill fill : tileBox.getBackground().getFills()) {
+        double radius = fill.getRadii().getTopLeftHorizontalRadius() * 2;
+        graphics.setFill(fill.getFill());
+        graphics.fillRoundRect(cellX, cellY, cellWidth, cellHeight, radius, radius);
+      }
+    }
+    graphics.restore();
+
+    // icon and name, centered as a whole
+    Tile tile = tiles.get(tileIndex);
+    Insets padding = styleTileBox.getPadding();
+    Insets textPadding = styleTextLbl.getPadding();
+    double innerWidth = cellWidth - padding.getLeft() - padding.getRight();
+    double innerHeight = cellHeight - padding.getTop() - padding.getBottom();
+    Image icon = getIconImage(tile.getIcon());
+    double scale = getIconScale(tile.getIcon());
+    double iconWidth = Objects.isNull(icon) ? 0 : icon.getWidth() / scale;
+    double iconHeight = Objects.isNull(icon) ? 0 : icon.getHeight() / scale;
+    List<String> lines = getWrappedName(tile.getName(),
+        innerWidth - textPadding.getLeft() - textPadding.getRight());
+    double lineHeight = getLineHeight();
+    int maxLines = (int) Math.max(0, (innerHeight - iconHeight - textPadding.getTop()
+        - textPadding.getBottom()) / lineHeight);
+    int lineCount = Math.min(lines.size(), maxLines);
+    double contentHeight = iconHeight + textPadding.getTop() + lineCount * lineHeight
+        + textPadding.getBottom();
+    double centerX = cellX + padding.getLeft() + innerWidth / 2;
+    double contentY = cellY + padding.getTop() + Math.max(0, (innerHeight - contentHeight) / 2);
+
+    if (!Objects.isNull(icon)) {
+      graphics.drawImage(icon, snapPosition(centerX - iconWidth / 2), snapPosition(contentY),
+          iconWidth, iconHeight);
+    }
+    graphics.setFont(styleText.getFont());
+    graphics.setFill(styleText.getFill());
+    graphics.setTextAlign(TextAlignment.CENTER);
+    graphics.setTextBaseline(VPos.TOP);
+    double lineY = contentY + iconHeight + textPadding.getTop();
+    for (int i = 0; i < lineCount; i++) {
+      graphics.fillText(lines.get(i), centerX, lineY + i * lineHeight);
+    }
+  }
+
+  /**
+   * Returns the image to draw for the {@code icon} of a tile, using the {@link IconCache} for
+   * glyph icons and a snapshot of any other kind of icon.
+   */
+  private Image getIconImage(Node icon) {
+    if (icon instanceof GlyphImageView) {
+      return IconCache.getDefault().getImage(((GlyphImageView) icon).getGlyph(),
+          styleGlyph.getFont().getSize(), styleGlyph.getFill(), getIconScale(icon));
+    }
+    if (icon instanceof ImageView) {
+      return ((ImageView) icon).getImage();
+    }
+    if (Objects.isNull(icon)) {
+      return null;
+    }
+    return iconSnapshots.computeIfAbsent(icon, node -> {
+      SnapshotParameters parameters = new SnapshotParameters();
+      parameters.setFill(Color.TRANSPARENT);
+      return node.snapshot(parameters, null);
+    });
+  }
+
+  private double getIconScale(Node icon) {
+    return icon instanceof GlyphImageView ? WorkbenchUtils.getRenderScale(canvas) : 1;
+  }
+
+  /**
+   * Splits the {@code name} into the lines fitting into the {@code width}, breaking between
+   * words. The lines of each name are being cached, as long as the font and width stay the same.
+   */
+  private List<String> getWrappedName(String name, double width) {
+    if (Objects.isNull(name)) {
+      return new ArrayList<>();
+    }
+    Font font = styleText.getFont();
+    if (!font.equals(wrappedFont) || width != wrappedWidth) {
+      wrappedNames.clear();
+      wrappedFont = font;
+      wrappedWidth = width;
+      measuringText.setFont(font);
+    }
+    return wrappedNames.computeIfAbsent(name, text -> {
+      List<String> lines = new ArrayList<>();
+      StringBuilder line = new StringBuilder();
+      for (String word : text.trim().split("\\s+")) {
+        String extended = line.length() == 0 ? word : line + " " + word;
+        if (line.length() > 0 && getTextWidth(extended) > width) {
+          lines.add(line.toString());
+          line.setLength(0);
+          line.append(word);
+        } else {
+          line.setLength(0);
+          line.append(extended);
+        }
+      }
+      if (line.length() > 0) {
+        lines.add(line.toString());
+      }
+      return lines;
+    });
+  }
+
+  private double getTextWidth(String text) {
+    measuringText.setText(text);
+    return measuringText.getLayoutBounds().getWidth();
+  }
+
+  private double getLineHeight() {
+    measuringText.setFont(styleText.getFont());
+    measuringText.setText("Ag");
+    return measuringText.getLayoutBounds().getHeight();
+  }
+
+  /**
+   * Returns the index of the tile at the position on the canvas, or {@link #NO_TILE} if the
+   * position is between or outside of the tiles.
+   */
+  int getTileIndex(double x, double y) {
+    double column = Math.floor((x - gridX) / (cellWidth + hgap));
+    double row = Math.floor((y - gridY) / (cellHeight + vgap));
+    if (column < 0 || column >= columns || row < 0
+        || x - gridX - column * (cellWidth + hgap) > cellWidth
+        || y - gridY - row * (cellHeight + vgap) > cellHeight) {
+      return NO_TILE;
+    }
+    int tileIndex = (int) (row * columns + column);
+    return tileIndex < tiles.size() ? tileIndex : NO_TILE;
+  }
+
+  private void setHoveredTile(int tileIndex, MouseEvent event) {
+    if (tileIndex == hoveredTile) {
+      return;
+    }
+    if (hoveredTile != NO_TILE) {
+      forwardEvent(tiles.get(hoveredTile), event, MouseEvent.MOUSE_EXITED);
+    }
+    hoveredTile = tileIndex;
+    if (hoveredTile != NO_TILE) {
+      forwardEvent(tiles.get(hoveredTile), event, MouseEvent.MOUSE_ENTERED);
+    }
+    canvas.setCursor(hoveredTile == NO_TILE ? null : Cursor.HAND);
+    // only the tiles whose hover state has changed would need to be redrawn, but their shadows
+    // may overlap the neighbouring tiles
+    draw();
+  }
+
+  /**
+   * Fires a copy of the {@code event} on the {@code tile}, so it behaves as if it had been
+   * clicked or hovered itself.
+   */
+  private static void forwardEvent(
+      Tile tile, MouseEvent event, EventType<MouseEvent> eventType) {
+    Event.fireEvent(tile, event.copyFor(tile, tile, eventType));
+  }
+
+  private int getColumnCount() {
+    return Math.max(1, WorkbenchUtils.calculateColumnsPerRow(tiles.size()));
+  }
+
+  private int getRowCount() {
+    int columnCount = getColumnCount();
+    return (tiles.size() + columnCount - 1) / columnCount;
+  }
+
+  private double getCellX(int tileIndex) {
+    return snapPosition(gridX + tileIndex % columns * (cellWidth + hgap));
+  }
+
+  private double getCellY(int tileIndex) {
+    return snapPosition(gridY + tileIndex / columns * (cellHeight + vgap));
+  }
+
+  private static double getGridSize(int cellCount, double cellSize, double gap) {
+    return cellCount == 0 ? 0 : cellCount * cellSize + (cellCount - 1) * gap;
+  }
+
+  @Override
+  protected double computePrefWidth(
+      double height, double topInset, double rightInset, double bottomInset, double leftInset) {
+    Insets insets = styleTilePane.getInsets();
+    return leftInset + insets.getLeft() + getGridSize(getColumnCount(),
+        snapSize(styleTileBox.prefWidth(-1)), snapSpace(styleTilePane.getHgap()))
+        + insets.getRight() + rightInset;
+  }
+
+  @Override
+  protected double computePrefHeight(
+      double width, double topInset, double rightInset, double bottomInset, double leftInset) {
+    Insets insets = styleTilePane.getInsets();
+    return topInset + insets.getTop() + getGridSize(getRowCount(),
+        snapSize(styleTileBox.prefHeight(-1)), snapSpace(styleTilePane.getVgap()))
+        + insets.getBottom() + bottomInset;
+  }
+
+  @Override
+  protected double computeMinWidth(
+      double height, double topInset, double rightInset, double bottomInset, double leftInset) {
+    return computePrefWidth(height, topInset, rightInset, bottomInset, leftInset);
+  }
+
+  @Override
+  protected double computeMinHeight(
+      double width, double topInset, double rightInset, double bottomInset, double leftInset) {
+    return computePrefHeight(width, topInset, rightInset, bottomInset, leftInset);
+  }
+
+  @Override
+  public void dispose() {
+    tiles.removeListener(tilesChangedListener);
+    tiles.forEach(this::removeTileListeners);
+    super.dispose();
+  }
+}
@@ -0,0 +1,40 @@
+package com.dlsc.workbenchfx.view.controls.module;
+
+import com.dlsc.workbenchfx.Workbench;
+import com.dlsc.workbenchfx.model.WorkbenchModule;
+import javafx.scene.control.Control;
+import javafx.scene.control.Skin;
+
+/**
+ * Represents the control used to display all {@link WorkbenchModule}s as {@link Tile}s in one
+ * vertically scrolling grid in the add module screen, as an alternative to {@link Page}s.
+ *
+ * <p>The grid is virtualized: only the rows of tiles which are currently visible are being created
+ * and they are being reused for other rows while scrolling.
+ *
+ * @author François Martin
+ * @author Marco Sanfratello
+ */
+public class ModuleGrid extends Control {
+
+  private final Workbench workbench;
+
+  /**
+   * Constructs a new {@link ModuleGrid}.
+   *
+   * @param workbench which created this {@link ModuleGrid}
+   */
+  public ModuleGrid(Workbench workbench) {
+    this.workbench = workbench;
+    getStyleClass().add("module-grid");
+  }
+
+  public final Workbench getWorkbench() {
+    return workbench;
+  }
+
+  @Override
+  protected Skin<?> createDefaultSkin() {
+    return new ModuleGridSkin(this);
+  }
+}
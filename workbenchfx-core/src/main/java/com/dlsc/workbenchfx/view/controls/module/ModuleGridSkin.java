@@ -0,0 +1,152 @@
+package com.dlsc.workbenchfx.view.controls.module;
+
+import com.dlsc.workbenchfx.Workbench;
+import com.dlsc.workbenchfx.model.WorkbenchModule;
+import com.dlsc.workbenchfx.util.WorkbenchUtils;
+import java.util.ArrayList;
+import java.util.List;
+import javafx.beans.InvalidationListener;
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import javafx.scene.Node;
+import javafx.scene.control.ListCell;
+import javafx.scene.control.ListView;
+import javafx.scene.control.SkinBase;
+import javafx.util.Callback;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Represents the skin of the corresponding {@link ModuleGrid}.
+ *
+ * <p>Uses a {@link ListView} of rows, whose cells are being recycled while scrolling. Each cell
+ * shows the tiles of one row in a {@link TileGridPane} and rebinds its tiles to the modules of the
+ * row it is being reused for.
+ *
+ * @author François Martin
+ * @author Marco Sanfratello
+ */
+public class ModuleGridSkin extends SkinBase<ModuleGrid> {
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(ModuleGridSkin.class.getName());
+
+  private final Workbench workbench;
+  private final ObservableList<WorkbenchModule> modules;
+  private final ObservableList<Row> rows = FXCollections.observableArrayList();
+  private final InvalidationListener rowsChangedListener = observable -> updateRows();
+  private ListView<Row> rowView;
+  private int columnsPerRow;
+
+  /**
+   * Creates a new {@link ModuleGridSkin} object for a corresponding {@link ModuleGrid}.
+   *
+   * @param moduleGrid the {@link ModuleGrid} for which this Skin is created
+   */
+  public ModuleGridSkin(ModuleGrid moduleGrid) {
+    super(moduleGrid);
+    workbench = moduleGrid.getWorkbench();
+    modules = workbench.getDisplayedModules();
+
+    initializeParts();
+    setupListeners();
+    updateRows();
+
+    getChildren().add(rowView);
+  }
+
+  private void initializeParts() {
+    rowView = new ListView<>(rows);
+    rowView.setCellFactory(listView -> new RowCell());
+    rowView.setFocusTraversable(false);
+  }
+
+  private void setupListeners() {
+    modules.addListener(rowsChangedListener);
+    workbench.modulesPerPageProperty().addListener(rowsChangedListener);
+    workbench.tileFactoryProperty().addListener(rowsChangedListener);
+  }
+
+  /**
+   * Replaces all rows, which only causes the visible cells to be updated.
+   */
+  private void updateRows() {
+    columnsPerRow =
+        Math.max(1, WorkbenchUtils.calculateColumnsPerRow(workbench.getModulesPerPage()));
+    int rowCount = (modules.size() + columnsPerRow - 1) / columnsPerRow;
+    LOGGER.trace("Updating " + rowCount + " rows with " + columnsPerRow + " columns");
+    List<Row> newRows = new ArrayList<>(rowCount);
+    for (int i = 0; i < rowCount; i++) {
+      newRows.add(new Row(i));
+    }
+    rows.setAll(newRows);
+  }
+
+  @Override
+  public void dispose() {
+    modules.removeListener(rowsChangedListener);
+    workbench.modulesPerPageProperty().removeListener(rowsChangedListener);
+    workbench.tileFactoryProperty().removeListener(rowsChangedListener);
+    super.dispose();
+  }
+
+  /**
+   * Represents a row of the grid. Rows are being compared by identity, so replacing a row with a
+   * new one always causes its cell to be updated.
+   */
+  private static final class Row {
+    private final int index;
+
+    private Row(int index) {
+      this.index = index;
+    }
+  }
+
+  private final class RowCell extends ListCell<Row> {
+    private final TileGridPane tilePane = new TileGridPane();
+    private Callback<Workbench, Tile> usedTileFactory;
+
+    private RowCell() {
+      tilePane.getStyleClass().add("tile-pane");
+    }
+
+    @Override
+    protected void updateItem(Row row, boolean empty) {
+      super.updateItem(row, empty);
+      if (empty || row == null) {
+        setGraphic(null);
+        return;
+      }
+      Callback<Workbench, Tile> tileFactory = workbench.getTileFactory();
+      ObservableList<Node> tiles = tilePane.getChildren();
+      if (tileFactory != usedTileFactory) {
+        // tiles of another factory can't be reused
+        tiles.clear();
+        usedTileFactory = tileFactory;
+      }
+      int position = row.index * columnsPerRow;
+      int amount = Math.max(0, Math.min(modules.size() - position, columnsPerRow));
+
+      // reuse the tiles of the row this cell has been showing before
+      List<Tile> createdTiles = new ArrayList<>();
+      for (int i = 0; i < amount; i++) {
+        WorkbenchModule module = modules.get(position + i);
+        if (i < tiles.size()) {
+          Tile tile = (Tile) tiles.get(i);
+          if (tile.getModule() != module) {
+            tile.setModule(module);
+          }
+        } else {
+          Tile tile = tileFactory.call(workbench);
+          tile.setModule(module);
+          createdTiles.add(tile);
+        }
+      }
+      if (tiles.size() > amount) {
+        tiles.remove(amount, tiles.size());
+      }
+      tiles.addAll(createdTiles);
+      tilePane.setColumns(columnsPerRow);
+      setGraphic(tilePane);
+    }
+  }
+}
@@ -2,13 +2,17 @@ package com.dlsc.workbenchfx.view.controls.module;
 
 import com.dlsc.workbenchfx.Workbench;
 import com.dlsc.workbenchfx.model.WorkbenchModule;
+import java.util.ArrayList;
+import java.util.List;
 import javafx.beans.InvalidationListener;
 import javafx.beans.property.IntegerProperty;
 import javafx.beans.property.SimpleIntegerProperty;
 import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
 import javafx.collections.ObservableList;
 import javafx.scene.control.Control;
 import javafx.scene.control.Skin;
+import javafx.util.Callback;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -28,6 +32,8 @@ public class Page extends Control {
   private final ObservableList<Tile> tiles;
   private final IntegerProperty modulesPerPage;
   private InvalidationListener modulesChangedListener;
+  private ListChangeListener<WorkbenchModule> moduleListChangedListener;
+  private Callback<Workbench, Tile> usedTileFactory;
 
   /**
    * Constructs a new {@link Tab}.
@@ -38,7 +44,7 @@ public class Page extends Control {
     this.workbench = workbench;
     pageIndex = new SimpleIntegerProperty(this, "pageIndex", INITIAL_PAGE_INDEX);
     modulesPerPage = workbench.modulesPerPageProperty();
-    modules = workbench.getModules();
+    modules = workbench.getDisplayedModules();
     tiles = FXCollections.observableArrayList();
     setupChangeListeners();
     updateTiles();
@@ -46,11 +52,36 @@ public class Page extends Control {
   }
 
   private void setupChangeListeners() {
-    // update tiles list whenever modules or the pageIndex of this page have changed
+    // update tiles list whenever the pageIndex of this page or the modules per page have changed
     modulesChangedListener = observable -> updateTiles();
-    modules.addListener(modulesChangedListener);
     pageIndex.addListener(modulesChangedListener);
     modulesPerPage.addListener(modulesChangedListener);
+    // only update tiles list if the modules shown on this page have changed
+    moduleListChangedListener = change -> {
+      if (isSliceChanged(change)) {
+        updateTiles();
+      }
+    };
+    modules.addListener(moduleListChangedListener);
+  }
+
+  /**
+   * Returns whether the {@code change} affects the modules being shown on this page.
+   */
+  private boolean isSliceChanged(ListChangeListener.Change<? extends WorkbenchModule> change) {
+    if (getPageIndex() == INITIAL_PAGE_INDEX) {
+      return false;
+    }
+    int start = getPageIndex() * workbench.getModulesPerPage();
+    int end = start + workbench.getModulesPerPage();
+    while (change.next()) {
+      boolean shifting = change.getAddedSize() != change.getRemovedSize();
+      if (change.getFrom() < end && (shifting || change.getTo() > start)) {
+        // either modules of this page have changed or got shifted by adding or removing modules
+        return true;
+      }
+    }
+    return false;
   }
 
   private void updateTiles() {
@@ -58,23 +89,48 @@ public class Page extends Control {
       LOGGER.debug("Page has not been initialized yet - skipping updates of tiles");
       return;
     }
-    // remove any preexisting tiles in the list
     LOGGER.debug(String.format("Tiles in page %s are being updated", getPageIndex()));
-    tiles.clear();
     LOGGER.trace(String.format("Page Index: %s, Modules Per Page: %s", getPageIndex(),
         workbench.getModulesPerPage()));
+    Callback<Workbench, Tile> tileFactory = workbench.getTileFactory();
+    if (tileFactory != usedTileFactory) {
+      // tiles of another factory can't be reused
+      tiles.clear();
+      usedTileFactory = tileFactory;
+    }
     int position = getPageIndex() * workbench.getModulesPerPage();
-    modules.stream()
-        .skip(position) // skip all tiles from previous pages
-        .limit(workbench.getModulesPerPage()) // only take as many tiles as there are per page
-        .map(module -> {
-          // create tile
-          Tile tile = workbench.getTileFactory().call(workbench);
+    int amount = Math.max(0,
+        Math.min(modules.size() - position, workbench.getModulesPerPage()));
+
+    // reuse existing tiles by rebinding them and only create or remove the difference
+    List<Tile> createdTiles = new ArrayList<>();
+    for (int i = 0; i < amount; i++) {
+      WorkbenchModule module = modules.get(position + i);
+      if (i < tiles.size()) {
+        Tile tile = tiles.get(i);
+        if (tile.getModule() != module) {
           tile.setModule(module);
-          return tile;
-        })
-        .map(Tile.class::cast)
-        .forEachOrdered(tiles::add);
+        }
+      } else {
+        Tile tile = tileFactory.call(workbench);
+        tile.setModule(module);
+        createdTiles.add(tile);
+      }
+    }
+    if (tiles.size() > amount) {
+      tiles.remove(amount, tiles.size());
+    }
+    tiles.addAll(createdTiles);
+  }
+
+  /**
+   * Stops this {@link Page} from updating its tiles, to be called once it is not being used
+   * anymore, so it can be garbage collected.
+   */
+  public final void dispose() {
+    modules.removeListener(moduleListChangedListener);
+    pageIndex.removeListener(modulesChangedListener);
+    modulesPerPage.removeListener(modulesChangedListener);
   }
 
   public final int getPageIndex() {
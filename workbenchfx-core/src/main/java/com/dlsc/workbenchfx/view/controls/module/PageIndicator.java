@@ -0,0 +1,82 @@
+package com.dlsc.workbenchfx.view.controls.module;
+
+import javafx.beans.property.IntegerProperty;
+import javafx.beans.property.SimpleIntegerProperty;
+import javafx.scene.control.Control;
+import javafx.scene.control.Skin;
+
+/**
+ * Represents the control used to navigate between the {@link Page}s of the add module screen.
+ *
+ * <p>Instead of one bullet per page, only a window of bullets around the current page is being
+ * shown, along with the bullets of the first and the last page. As soon as not all pages fit in,
+ * a field is being shown to jump to any page by its number. This way the amount of nodes stays
+ * the same, no matter how many pages there are.
+ *
+ * @author François Martin
+ * @author Marco Sanfratello
+ */
+public class PageIndicator extends Control {
+
+  private static final int DEFAULT_WINDOW_SIZE = 5;
+
+  private final IntegerProperty pageCount = new SimpleIntegerProperty(this, "pageCount", 1);
+  private final IntegerProperty currentPageIndex =
+      new SimpleIntegerProperty(this, "currentPageIndex", 0);
+  private final IntegerProperty windowSize =
+      new SimpleIntegerProperty(this, "windowSize", DEFAULT_WINDOW_SIZE);
+
+  /**
+   * Constructs a new {@link PageIndicator}.
+   */
+  public PageIndicator() {
+    getStyleClass().add("page-indicator");
+  }
+
+  @Override
+  protected Skin<?> createDefaultSkin() {
+    return new PageIndicatorSkin(this);
+  }
+
+  public final int getPageCount() {
+    return pageCount.get();
+  }
+
+  public final void setPageCount(int pageCount) {
+    this.pageCount.set(pageCount);
+  }
+
+  public final IntegerProperty pageCountProperty() {
+    return pageCount;
+  }
+
+  public final int getCurrentPageIndex() {
+    return currentPageIndex.get();
+  }
+
+  public final void setCurrentPageIndex(int currentPageIndex) {
+    this.currentPageIndex.set(currentPageIndex);
+  }
+
+  public final IntegerProperty currentPageIndexProperty() {
+    return currentPageIndex;
+  }
+
+  public final int getWindowSize() {
+    return windowSize.get();
+  }
+
+  /**
+   * Defines how many bullets are being shown around the current page, in addition to the bullets
+   * of the first and the last page.
+   *
+   * @param windowSize the amount of bullets around the current page, at least one
+   */
+  public final void setWindowSize(int windowSize) {
+    this.windowSize.set(windowSize);
+  }
+
+  public final IntegerProperty windowSizeProperty() {
+    return windowSize;
+  }
+}
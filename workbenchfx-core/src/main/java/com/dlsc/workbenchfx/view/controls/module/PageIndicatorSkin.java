@@ -0,0 +1,166 @@
+package com.dlsc.workbenchfx.view.controls.module;
+
+import java.util.Arrays;
+import javafx.beans.InvalidationListener;
+import javafx.css.PseudoClass;
+import javafx.scene.Node;
+import javafx.scene.control.Button;
+import javafx.scene.control.Label;
+import javafx.scene.control.SkinBase;
+import javafx.scene.control.TextField;
+import javafx.scene.layout.HBox;
+
+/**
+ * Represents the skin of the corresponding {@link PageIndicator}.
+ *
+ * <p>Creates a fixed amount of bullets once, which are being reassigned to other pages whenever
+ * the current page or the amount of pages change.
+ *
+ * @author François Martin
+ * @author Marco Sanfratello
+ */
+public class PageIndicatorSkin extends SkinBase<PageIndicator> {
+
+  private static final PseudoClass SELECTED_STATE = PseudoClass.getPseudoClass("selected");
+  private static final String ELLIPSIS = "…";
+  private static final int NO_PAGE = -1;
+
+  private final PageIndicator control;
+  private final HBox controlBox = new HBox();
+  private final Label leadingEllipsis = createEllipsis();
+  private final Label trailingEllipsis = createEllipsis();
+  private final TextField jumpField = new TextField();
+  private final InvalidationListener indicatorsChangedListener = observable -> updateIndicators();
+  private final InvalidationListener windowSizeChangedListener = observable -> {
+    createBullets();
+    updateIndicators();
+  };
+
+  /**
+   * Bullets of the first page, the pages of the window and the last page, in this order.
+   */
+  private Button[] bullets;
+  /**
+   * Index of the page each bullet currently leads to, or {@link #NO_PAGE} if it's hidden.
+   */
+  private int[] bulletPages;
+
+  /**
+   * Creates a new {@link PageIndicatorSkin} object for a corresponding {@link PageIndicator}.
+   *
+   * @param pageIndicator the {@link PageIndicator} for which this Skin is created
+   */
+  public PageIndicatorSkin(PageIndicator pageIndicator) {
+    super(pageIndicator);
+    control = pageIndicator;
+
+    initializeParts();
+    setupEventHandlers();
+    setupListeners();
+    createBullets();
+    updateIndicators();
+
+    getChildren().add(controlBox);
+  }
+
+  private void initializeParts() {
+    controlBox.getStyleClass().add("control-box");
+    jumpField.getStyleClass().add("jump-field");
+    jumpField.setPrefColumnCount(3);
+  }
+
+  private void setupEventHandlers() {
+    jumpField.setOnAction(event -> {
+      try {
+        int pageNumber = Integer.parseInt(jumpField.getText().trim());
+        control.setCurrentPageIndex(clamp(pageNumber - 1, control.getPageCount()));
+      } catch (NumberFormatException e) {
+        // not a page number, ignore it
+      }
+      jumpField.clear();
+    });
+  }
+
+  private void setupListeners() {
+    control.pageCountProperty().addListener(indicatorsChangedListener);
+    control.currentPageIndexProperty().addListener(indicatorsChangedListener);
+    control.windowSizeProperty().addListener(windowSizeChangedListener);
+  }
+
+  private void createBullets() {
+    int bulletCount = Math.max(1, control.getWindowSize()) + 2;
+    bullets = new Button[bulletCount];
+    bulletPages = new int[bulletCount];
+    for (int i = 0; i < bulletCount; i++) {
+      int bullet = i;
+      bullets[i] = new Button();
+      bullets[i].getStyleClass().add("bullet-button");
+      bullets[i].setOnAction(event -> control.setCurrentPageIndex(bulletPages[bullet]));
+    }
+    controlBox.getChildren().setAll(bullets[0], leadingEllipsis);
+    controlBox.getChildren().addAll(Arrays.asList(bullets).subList(1, bulletCount - 1));
+    controlBox.getChildren().addAll(trailingEllipsis, bullets[bulletCount - 1], jumpField);
+  }
+
+  /**
+   * Assigns the bullets to the first page, the pages around the current page and the last page.
+   * If all pages fit, every page gets a bullet and no ellipsis is being shown.
+   */
+  private void updateIndicators() {
+    int pageCount = Math.max(0, control.getPageCount());
+    int currentPage = clamp(control.getCurrentPageIndex(), pageCount);
+    int bulletCount = bullets.length;
+    int windowSize = bulletCount - 2;
+    Arrays.fill(bulletPages, NO_PAGE);
+
+    boolean windowed = pageCount > bulletCount;
+    int windowStart = 1;
+    if (windowed) {
+      windowStart = Math.max(1, Math.min(currentPage - windowSize / 2, pageCount - 1 - windowSize));
+      bulletPages[0] = 0;
+      for (int i = 0; i < windowSize; i++) {
+        bulletPages[i + 1] = windowStart + i;
+      }
+      bulletPages[bulletCount - 1] = pageCount - 1;
+    } else {
+      for (int i = 0; i < pageCount; i++) {
+        bulletPages[i] = i;
+      }
+    }
+
+    for (int i = 0; i < bulletCount; i++) {
+      int page = bulletPages[i];
+      Button bullet = bullets[i];
+      setShown(bullet, page != NO_PAGE);
+      bullet.pseudoClassStateChanged(SELECTED_STATE, page == currentPage);
+      bullet.setAccessibleText(page == NO_PAGE ? null : "Page " + (page + 1));
+    }
+    setShown(leadingEllipsis, windowed && windowStart > 1);
+    setShown(trailingEllipsis, windowed && windowStart + windowSize < pageCount - 1);
+    setShown(jumpField, windowed);
+    jumpField.setPromptText((currentPage + 1) + "/" + pageCount);
+  }
+
+  private static int clamp(int pageIndex, int pageCount) {
+    return Math.max(0, Math.min(pageIndex, pageCount - 1));
+  }
+
+  private static void setShown(Node node, boolean shown) {
+    node.setVisible(shown);
+    node.setManaged(shown);
+  }
+
+  private static Label createEllipsis() {
+    Label ellipsis = new Label(ELLIPSIS);
+    ellipsis.getStyleClass().add("ellipsis");
+    return ellipsis;
+  }
+
+  @Override
+  public void dispose() {
+    control.pageCountProperty().removeListener(indicatorsChangedListener);
+    control.currentPageIndexProperty().removeListener(indicatorsChangedListener);
+    control.windowSizeProperty().removeListener(windowSizeChangedListener);
+    super.dispose();
+  }
+}
@@ -1,10 +1,9 @@
 package com.dlsc.workbenchfx.view.controls.module;
 
 import com.dlsc.workbenchfx.util.WorkbenchUtils;
-import javafx.beans.InvalidationListener;
+import javafx.beans.binding.Bindings;
 import javafx.collections.ObservableList;
 import javafx.scene.control.SkinBase;
-import javafx.scene.layout.GridPane;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -18,7 +17,7 @@ public class PageSkin extends SkinBase<Page> {
   private static final Logger LOGGER = LoggerFactory.getLogger(PageSkin.class.getName());
 
   private final ObservableList<Tile> tiles;
-  private GridPane tilePane;
+  private TileGridPane tilePane;
 
   /**
    * Creates a new {@link PageSkin} object for a corresponding {@link Page}.
@@ -30,40 +29,23 @@ public class PageSkin extends SkinBase<Page> {
     tiles = page.getTiles();
 
     initializeParts();
-
-    setupSkin(); // initial setup
-    setupListeners(); // setup for changing modules
+    setupBindings();
 
     getChildren().add(tilePane);
   }
 
   private void initializeParts() {
-    tilePane = new GridPane();
+    tilePane = new TileGridPane();
     tilePane.getStyleClass().add("tile-pane");
   }
 
-  private void setupListeners() {
-    LOGGER.trace("Add listener");
-    tiles.addListener((InvalidationListener) observable -> setupSkin());
-  }
-
-  private void setupSkin() {
-    // remove any pre-existing tiles
-    tilePane.getChildren().clear();
-
-    int column = 0;
-    int row = 0;
-
-    final int columnsPerRow = WorkbenchUtils.calculateColumnsPerRow(tiles.size());
-    for (Tile tile : tiles) {
-      tilePane.add(tile, column, row);
-      column++;
-
-      if (column == columnsPerRow) {
-        column = 0;
-        row++;
-      }
-    }
+  private void setupBindings() {
+    LOGGER.trace("Bind tiles");
+    tilePane.columnsProperty().bind(Bindings.createIntegerBinding(
+        () -> WorkbenchUtils.calculateColumnsPerRow(tiles.size()), tiles));
+    // only the tiles which have been changed are being added or removed, which only causes the
+    // cells from the first changed tile on to be positioned again
+    Bindings.bindContent(tilePane.getChildren(), tiles);
   }
 
 }
@@ -3,7 +3,6 @@ package com.dlsc.workbenchfx.view.controls.module;
 import com.dlsc.workbenchfx.Workbench;
 import com.dlsc.workbenchfx.model.WorkbenchModule;
 import com.dlsc.workbenchfx.util.WorkbenchUtils;
-import javafx.beans.binding.Bindings;
 import javafx.beans.property.BooleanProperty;
 import javafx.beans.property.ObjectProperty;
 import javafx.beans.property.ReadOnlyBooleanProperty;
@@ -75,12 +74,11 @@ public class Tab extends Control {
   }
 
   private void setupActiveTabListener() {
-    // whenever the module of this tab changes, re-initialize the binding which determines whether
-    // this tab is the currently active tab or not
-    moduleProperty().addListener(observable -> {
-      activeTab.unbind();
-      activeTab.bind(Bindings.equal(getModule(), workbench.activeModuleProperty()));
-    });
+    // whenever the module of this tab changes, register it with the module in the dispatcher of the
+    // workbench, which determines whether this tab is the currently active tab or not
+    moduleProperty().addListener((observable, oldModule, newModule) ->
+        workbench.getActiveTabDispatcher().moduleChanged(this, oldModule, newModule)
+    );
     activeTab.addListener((observable, oldValue, newValue) ->
         pseudoClassStateChanged(SELECTED, newValue)
     );
@@ -100,6 +98,19 @@ public class Tab extends Control {
     workbench.openModule(getModule());
   }
 
+  /**
+   * Defines whether this {@link Tab} may be reused for a different {@link WorkbenchModule} by
+   * calling {@link #setModule(WorkbenchModule)}, when its module has been closed and another one
+   * is being opened. This {@link Tab} updates its name, icon, id and whether it's active whenever
+   * its module changes. Subclasses which keep any other state depending on the module, which they
+   * don't update when it changes, should return false.
+   *
+   * @return true if this {@link Tab} can be reused for other modules
+   */
+  public boolean isReusable() {
+    return true;
+  }
+
   public final WorkbenchModule getModule() {
     return module.get();
   }
@@ -142,6 +153,10 @@ public class Tab extends Control {
     return activeTab;
   }
 
+  final void setActiveTab(boolean activeTab) {
+    this.activeTab.set(activeTab);
+  }
+
   @Override
   protected Skin<?> createDefaultSkin() {
     return new TabSkin(this);
@@ -3,6 +3,8 @@ package com.dlsc.workbenchfx.view.controls.module;
 import com.dlsc.workbenchfx.Workbench;
 import com.dlsc.workbenchfx.model.WorkbenchModule;
 import com.dlsc.workbenchfx.util.WorkbenchUtils;
+import java.util.Objects;
+import javafx.animation.PauseTransition;
 import javafx.beans.property.ObjectProperty;
 import javafx.beans.property.ReadOnlyObjectProperty;
 import javafx.beans.property.ReadOnlyStringProperty;
@@ -12,6 +14,8 @@ import javafx.beans.property.StringProperty;
 import javafx.scene.Node;
 import javafx.scene.control.Control;
 import javafx.scene.control.Skin;
+import javafx.scene.input.MouseEvent;
+import javafx.util.Duration;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -26,12 +30,24 @@ public class Tile extends Control {
 
   private static final Logger LOGGER = LoggerFactory.getLogger(Tile.class.getName());
 
+  /**
+   * How long the pointer needs to rest on a {@link Tile}, before its module is being prewarmed.
+   */
+  private static final Duration HOVER_PREWARMING_DELAY = Duration.millis(300);
+
   private final Workbench workbench;
   private final ObjectProperty<WorkbenchModule> module;
 
   private final StringProperty name;
   private final ObjectProperty<Node> icon;
 
+  private PauseTransition hoverDelay;
+
+  /**
+   * Whether the icon of this tile has been created for the current module.
+   */
+  private boolean iconRealized;
+
   /**
    * Constructs a new {@link Tile}.
    *
@@ -51,19 +67,55 @@ public class Tile extends Control {
     module.addListener(observable -> {
       WorkbenchModule current = getModule();
       name.setValue(current.getName());
-      icon.setValue(current.getIcon());
 
       // Sets the id with toString of module.
       // Adds 'tile-', replaces spaces with hyphens and sets letters to lowercase.
       // eg. Customer Management converts to tile-customer-management
       String tileId = WorkbenchUtils.convertToId("tile-" + current.getName());
-      LOGGER.debug("Set Tile-ID of '" + getModule() + "' to: '" + tileId + "'");
+      LOGGER.debug("Set Tile-ID of '" + current + "' to: '" + tileId + "'");
       setId(tileId);
+
+      // tiles of pages which aren't being displayed don't need their icon yet
+      iconRealized = false;
+      if (!Objects.isNull(getScene())) {
+        realizeIcon();
+      } else {
+        icon.setValue(null); // don't keep the icon of the previous module
+      }
+    });
+    sceneProperty().addListener(observable -> {
+      if (!Objects.isNull(getScene())) {
+        realizeIcon();
+      }
     });
   }
 
+  /**
+   * Creates the icon for the current module, if it hasn't been done already.
+   */
+  private void realizeIcon() {
+    WorkbenchModule current = getModule();
+    if (iconRealized || Objects.isNull(current)) {
+      return;
+    }
+    iconRealized = true;
+    icon.setValue(current.getIcon());
+  }
+
   private void setupEventHandlers() {
     setOnMouseClicked(event -> open());
+    addEventHandler(MouseEvent.MOUSE_ENTERED, event -> {
+      if (Objects.isNull(hoverDelay)) {
+        hoverDelay = new PauseTransition(HOVER_PREWARMING_DELAY);
+        hoverDelay.setOnFinished(finished -> workbench.prewarmModule(getModule()));
+      }
+      hoverDelay.playFromStart();
+    });
+    addEventHandler(MouseEvent.MOUSE_EXITED, event -> {
+      if (!Objects.isNull(hoverDelay)) {
+        hoverDelay.stop();
+      }
+    });
   }
 
   /**
@@ -99,11 +151,19 @@ public class Tile extends Control {
     return name;
   }
 
+  /**
+   * Returns the icon of the module. The icon is only being created once this {@link Tile} is
+   * being added to a scene, or once it is being asked for.
+   *
+   * @return the icon of the module
+   */
   public final Node getIcon() {
+    realizeIcon();
     return icon.get();
   }
 
   public final ReadOnlyObjectProperty<Node> iconProperty() {
+    realizeIcon();
     return icon;
   }
 
@@ -0,0 +1,364 @@
+package com.dlsc.workbenchfx.view.controls.module;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import javafx.beans.property.IntegerProperty;
+import javafx.beans.property.SimpleIntegerProperty;
+import javafx.collections.ListChangeListener;
+import javafx.css.CssMetaData;
+import javafx.css.SimpleStyleableDoubleProperty;
+import javafx.css.SimpleStyleableObjectProperty;
+import javafx.css.StyleConverter;
+import javafx.css.Styleable;
+import javafx.css.StyleableDoubleProperty;
+import javafx.css.StyleableObjectProperty;
+import javafx.css.StyleableProperty;
+import javafx.geometry.HPos;
+import javafx.geometry.Insets;
+import javafx.geometry.Pos;
+import javafx.geometry.VPos;
+import javafx.scene.Node;
+import javafx.scene.layout.Pane;
+import javafx.scene.layout.Region;
+
+/**
+ * Lays out its children in a grid of equally sized cells, in the order of its children from left
+ * to right and top to bottom.
+ *
+ * <p>The position of each cell is being calculated from its index, the amount of
+ * {@link #columnsProperty() columns} and the size of the cells, which is the largest preferred size
+ * of all children. Adding, removing or moving children only repositions the children from the
+ * first changed index on, as long as the size of the cells and the amount of columns stay the
+ * same.
+ *
+ * <p>Is being styled using {@code -fx-hgap}, {@code -fx-vgap} and {@code -fx-alignment}, just like
+ * a {@link javafx.scene.layout.GridPane}.
+ *
+ * @author François Martin
+ * @author Marco Sanfratello
+ */
+public class TileGridPane extends Pane {
+
+  private final IntegerProperty columns = new SimpleIntegerProperty(this, "columns", 1) {
+    @Override
+    protected void invalidated() {
+      requestLayout();
+    }
+  };
+  private final StyleableDoubleProperty hgap =
+      new SimpleStyleableDoubleProperty(StyleableProperties.HGAP, this, "hgap", 0d) {
+        @Override
+        protected void invalidated() {
+          requestLayout();
+        }
+      };
+  private final StyleableDoubleProperty vgap =
+      new SimpleStyleableDoubleProperty(StyleableProperties.VGAP, this, "vgap", 0d) {
+        @Override
+        protected void invalidated() {
+          requestLayout();
+        }
+      };
+  private final StyleableObjectProperty<Pos> alignment =
+      new SimpleStyleableObjectProperty<Pos>(
+          StyleableProperties.ALIGNMENT, this, "alignment", Pos.TOP_LEFT) {
+        @Override
+        protected void invalidated() {
+          requestLayout();
+        }
+      };
+
+  /**
+   * Children from this index on need to be positioned again on the next layout pass.
+   */
+  private int firstInvalidChild;
+
+  // the values of the last layout pass, if any of them changes all cells need to be repositioned
+  private double laidOutCellWidth = -1;
+  private double laidOutCellHeight = -1;
+  private double laidOutX = -1;
+  private double laidOutY = -1;
+  private double laidOutHgap = -1;
+  private double laidOutVgap = -1;
+  private int laidOutColumns = -1;
+
+  /**
+   * Creates a new {@link TileGridPane}.
+   */
+  public TileGridPane() {
+    getChildren().addListener((ListChangeListener<Node>) change -> {
+      while (change.next()) {
+        firstInvalidChild = Math.min(firstInvalidChild, change.getFrom());
+      }
+    });
+  }
+
+  @Override
+  protected void layoutChildren() {
+    List<Node> cells = getManagedChildren();
+    if (cells.isEmpty()) {
+      return;
+    }
+    int columnCount = getColumnCount(cells.size());
+    double cellWidth = getCellWidth(cells);
+    double cellHeight = getCellHeight(cells);
+    double hgapValue = snapSpace(getHgap());
+    double vgapValue = snapSpace(getVgap());
+
+    // align the grid as a whole inside of the content area
+    Insets insets = getInsets();
+    double contentWidth = getWidth() - insets.getLeft() - insets.getRight();
+    double contentHeight = getHeight() - insets.getTop() - insets.getBottom();
+    double gridWidth = getGridSize(columnCount, cellWidth, hgapValue);
+    double gridHeight = getGridSize(getRowCount(cells.size()), cellHeight, vgapValue);
+    double x = insets.getLeft()
+        + Math.max(0, (contentWidth - gridWidth) * getFraction(getAlignment().getHpos()));
+    double y = insets.getTop()
+        + Math.max(0, (contentHeight - gridHeight) * getFraction(getAlignment().getVpos()));
+
+    if (cellWidth != laidOutCellWidth || cellHeight != laidOutCellHeight || x != laidOutX
+        || y != laidOutY || hgapValue != laidOutHgap || vgapValue != laidOutVgap
+        || columnCount != laidOutColumns) {
+      firstInvalidChild = 0;
+      laidOutCellWidth = cellWidth;
+      laidOutCellHeight = cellHeight;
+      laidOutX = x;
+      laidOutY = y;
+      laidOutHgap = hgapValue;
+      laidOutVgap = vgapValue;
+      laidOutColumns = columnCount;
+    }
+
+    List<Node> children = getChildren();
+    int cell = 0;
+    for (int i = 0; i < children.size(); i++) {
+      Node child = children.get(i);
+      if (!child.isManaged()) {
+        continue;
+      }
+      if (i >= firstInvalidChild) {
+        int column = cell % columnCount;
+        int row = cell / columnCount;
+        child.resizeRelocate(
+            snapPosition(x + column * (cellWidth + hgapValue)),
+            snapPosition(y + row * (cellHeight + vgapValue)),
+            cellWidth, cellHeight);
+      }
+      cell++;
+    }
+    firstInvalidChild = children.size();
+  }
+
+  /**
+   * Returns the fraction of the remaining horizontal space, which is being left of the grid.
+   */
+  static double getFraction(HPos hpos) {
+    switch (hpos) {
+      case LEFT:
+        return 0;
+      case CENTER:
+        return 0.5;
+      default:
+        return 1;
+    }
+  }
+
+  /**
+   * Returns the fraction of the remaining vertical space, which is being left above the grid.
+   */
+  static double getFraction(VPos vpos) {
+    switch (vpos) {
+      case TOP:
+        return 0;
+      case BOTTOM:
+        return 1;
+      default:
+        return 0.5;
+    }
+  }
+
+  @Override
+  protected double computeMinWidth(double height) {
+    return computePrefWidth(height);
+  }
+
+  @Override
+  protected double computeMinHeight(double width) {
+    return computePrefHeight(width);
+  }
+
+  @Override
+  protected double computePrefWidth(double height) {
+    List<Node> cells = getManagedChildren();
+    Insets insets = getInsets();
+    double gridWidth = cells.isEmpty() ? 0 : getGridSize(
+        getColumnCount(cells.size()), getCellWidth(cells), snapSpace(getHgap()));
+    return insets.getLeft() + gridWidth + insets.getRight();
+  }
+
+  @Override
+  protected double computePrefHeight(double width) {
+    List<Node> cells = getManagedChildren();
+    Insets insets = getInsets();
+    double gridHeight = cells.isEmpty() ? 0 : getGridSize(
+        getRowCount(cells.size()), getCellHeight(cells), snapSpace(getVgap()));
+    return insets.getTop() + gridHeight + insets.getBottom();
+  }
+
+  private int getColumnCount(int cellCount) {
+    return Math.max(1, Math.min(getColumns(), cellCount));
+  }
+
+  private int getRowCount(int cellCount) {
+    int columnCount = getColumnCount(cellCount);
+    return (cellCount + columnCount - 1) / columnCount;
+  }
+
+  private static double getGridSize(int cellCount, double cellSize, double gap) {
+    return cellCount * cellSize + (cellCount - 1) * gap;
+  }
+
+  private double getCellWidth(List<Node> cells) {
+    double cellWidth = 0;
+    for (Node cell : cells) {
+      cellWidth = Math.max(cellWidth, cell.prefWidth(-1));
+    }
+    return snapSize(cellWidth);
+  }
+
+  private double getCellHeight(List<Node> cells) {
+    double cellHeight = 0;
+    for (Node cell : cells) {
+      cellHeight = Math.max(cellHeight, cell.prefHeight(-1));
+    }
+    return snapSize(cellHeight);
+  }
+
+  public final int getColumns() {
+    return columns.get();
+  }
+
+  /**
+   * Defines the amount of columns of the grid.
+   *
+   * @param columns of the grid, at least one column is always being laid out
+   */
+  public final void setColumns(int columns) {
+    this.columns.set(columns);
+  }
+
+  public final IntegerProperty columnsProperty() {
+    return columns;
+  }
+
+  public final double getHgap() {
+    return hgap.get();
+  }
+
+  public final void setHgap(double hgap) {
+    this.hgap.set(hgap);
+  }
+
+  public final StyleableDoubleProperty hgapProperty() {
+    return hgap;
+  }
+
+  public final double getVgap() {
+    return vgap.get();
+  }
+
+  public final void setVgap(double vgap) {
+    this.vgap.set(vgap);
+  }
+
+  public final StyleableDoubleProperty vgapProperty() {
+    return vgap;
+  }
+
+  public final Pos getAlignment() {
+    return alignment.get();
+  }
+
+  /**
+   * Defines how the grid as a whole is being aligned within the content area of this pane.
+   *
+   * @param alignment of the grid
+   */
+  public final void setAlignment(Pos alignment) {
+    this.alignment.set(alignment);
+  }
+
+  public final StyleableObjectProperty<Pos> alignmentProperty() {
+    return alignment;
+  }
+
+  private static class StyleableProperties {
+
+    private static final CssMetaData<TileGridPane, Number> HGAP =
+        new CssMetaData<TileGridPane, Number>("-fx-hgap", StyleConverter.getSizeConverter(), 0d) {
+          @Override
+          public boolean isSettable(TileGridPane pane) {
+            return !pane.hgap.isBound();
+          }
+
+          @Override
+          public StyleableProperty<Number> getStyleableProperty(TileGridPane pane) {
+            return pane.hgap;
+          }
+        };
+
+    private static final CssMetaData<TileGridPane, Number> VGAP =
+        new CssMetaData<TileGridPane, Number>("-fx-vgap", StyleConverter.getSizeConverter(), 0d) {
+          @Override
+          public boolean isSettable(TileGridPane pane) {
+            return !pane.vgap.isBound();
+          }
+
+          @Override
+          public StyleableProperty<Number> getStyleableProperty(TileGridPane pane) {
+            return pane.vgap;
+          }
+        };
+
+    private static final CssMetaData<TileGridPane, Pos> ALIGNMENT =
+        new CssMetaData<TileGridPane, Pos>(
+            "-fx-alignment", StyleConverter.getEnumConverter(Pos.class), Pos.TOP_LEFT) {
+          @Override
+          public boolean isSettable(TileGridPane pane) {
+            return !pane.alignment.isBound();
+          }
+
+          @Override
+          public StyleableProperty<Pos> getStyleableProperty(TileGridPane pane) {
+            return pane.alignment;
+          }
+        };
+
+    private static final List<CssMetaData<? extends Styleable, ?>> CSS_META_DATA;
+
+    static {
+      List<CssMetaData<? extends Styleable, ?>> cssMetaData =
+          new ArrayList<>(Region.getClassCssMetaData());
+      cssMetaData.add(HGAP);
+      cssMetaData.add(VGAP);
+      cssMetaData.add(ALIGNMENT);
+      CSS_META_DATA = Collections.unmodifiableList(cssMetaData);
+    }
+  }
+
+  /**
+   * Returns the {@link CssMetaData} associated with this class, including the
+   * {@link CssMetaData} of its super classes.
+   *
+   * @return the {@link CssMetaData} of this class
+   */
+  public static List<CssMetaData<? extends Styleable, ?>> getClassCssMetaData() {
+    return StyleableProperties.CSS_META_DATA;
+  }
+
+  @Override
+  public List<CssMetaData<? extends Styleable, ?>> getCssMetaData() {
+    return getClassCssMetaData();
+  }
+}
@@ -96,6 +96,31 @@ public class SelectionStrip<T> extends Control {
     this.animationDuration.set(animationDuration);
   }
 
+  // Virtualization support.
+
+  private final BooleanProperty virtualized = new SimpleBooleanProperty(this, "virtualized",
+      false);
+
+  public final BooleanProperty virtualizedProperty() {
+    return virtualized;
+  }
+
+  public final boolean isVirtualized() {
+    return virtualized.get();
+  }
+
+  /**
+   * Defines whether only the cells of the items which are currently being scrolled into view are
+   * being created. Cells are being reused for other items while scrolling, the width of items
+   * without a cell is being estimated from the widths of the cells which have been measured.
+   * Should be used when the strip contains a very large amount of items.
+   *
+   * @param virtualized true to only create the visible cells, false to create one cell per item
+   */
+  public final void setVirtualized(boolean virtualized) {
+    this.virtualized.set(virtualized);
+  }
+
   // Selection model support.
 
   public final ObjectProperty<T> selectedItem = new SimpleObjectProperty<>(this, "selectedItem");
@@ -148,5 +173,6 @@ public class SelectionStrip<T> extends Control {
 
   public void scrollTo(T item) {
     getProperties().put("scroll.to", item);
+    requestLayout();
   }
 }
@@ -1,7 +1,14 @@
 package com.dlsc.workbenchfx.view.controls.selectionstrip;
 
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.stream.Collectors;
 import javafx.animation.Animation;
 import javafx.animation.FadeTransition;
@@ -16,6 +23,8 @@ import javafx.beans.property.BooleanProperty;
 import javafx.beans.property.DoubleProperty;
 import javafx.beans.property.SimpleBooleanProperty;
 import javafx.beans.property.SimpleDoubleProperty;
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
 import javafx.geometry.Bounds;
 import javafx.geometry.Pos;
 import javafx.scene.Node;
@@ -23,6 +32,7 @@ import javafx.scene.control.SkinBase;
 import javafx.scene.input.MouseEvent;
 import javafx.scene.input.ScrollEvent;
 import javafx.scene.layout.HBox;
+import javafx.scene.layout.Pane;
 import javafx.scene.layout.Region;
 import javafx.scene.shape.Rectangle;
 import javafx.util.Duration;
@@ -30,14 +40,51 @@ import javafx.util.Duration;
 public class SelectionStripSkin<T> extends SkinBase<SelectionStrip<T>> {
 
   private static final String SCROLL_TO_KEY = "scroll.to";
+  private static final String FIRST_CHILD = "first-child";
+
+  /**
+   * Width in pixels, by which cells are being created beyond both sides of the visible area in the
+   * virtualized mode.
+   */
+  private static final double VIRTUAL_BUFFER = 100;
+  /**
+   * Estimated width of the cells in the virtualized mode, as long as no cell has been measured.
+   */
+  private static final double DEFAULT_CELL_WIDTH = 100;
+  /**
+   * Maximum amount of times the visible cells are being determined again during one layout pass,
+   * when measuring the visible cells changed their estimated positions.
+   */
+  private static final int MAX_MEASURE_PASSES = 3;
+  /**
+   * Maximum amount of cells of removed items, which are being kept to be reused for added items.
+   */
+  private static final int MAX_POOLED_CELLS = 50;
 
   private final HBox content;
+  private final Pane virtualContent;
   private final Region leftBtn;
   private final Region rightBtn;
   private final Region leftFader;
   private final Region rightFader;
 
-  private final Map<T, Node> nodeMap = new HashMap<>();
+  private final Map<T, StripCell<T>> nodeMap = new HashMap<>();
+  private StripCell<T> firstCell;
+  /**
+   * Cells which are not being shown and can be reused for other items.
+   */
+  private final Deque<StripCell<T>> cellPool = new ArrayDeque<>();
+
+  // virtualized mode, where nodeMap only contains the cells of the visible items
+  private final Map<T, Double> cellWidths = new HashMap<>();
+  private double[] cellOffsets = new double[1];
+  private int firstVisibleIndex;
+  private int lastVisibleIndex = -1;
+
+  /**
+   * Width of all cells, which is being estimated in the virtualized mode.
+   */
+  private final DoubleProperty totalWidth = new SimpleDoubleProperty(this, "totalWidth");
 
   /**
    * Constructor for all SkinBase instances.
@@ -52,6 +99,8 @@ public class SelectionStripSkin<T> extends SkinBase<SelectionStrip<T>> {
     content.setMaxWidth(Double.MAX_VALUE);
     content.setAlignment(Pos.CENTER_LEFT);
 
+    virtualContent = new Pane();
+
     leftBtn = new Region();
     leftBtn.getStyleClass().addAll("scroller", "left");
     leftBtn.setOpacity(0);
@@ -72,7 +121,7 @@ public class SelectionStripSkin<T> extends SkinBase<SelectionStrip<T>> {
     rightFader.getStyleClass().addAll("fader", "right");
     rightFader.setOpacity(0);
 
-    getChildren().addAll(content, leftFader, rightFader, leftBtn, rightBtn);
+    getChildren().addAll(content, virtualContent, leftFader, rightFader, leftBtn, rightBtn);
     getChildren().forEach(child -> child.setManaged(false));
 
     Rectangle clip = new Rectangle();
@@ -84,56 +133,398 @@ public class SelectionStripSkin<T> extends SkinBase<SelectionStrip<T>> {
     setupBindings();
     setupEventHandlers();
 
-    strip.itemsProperty().addListener((Observable it) -> buildContent());
+    strip.itemsProperty().addListener(this::updateContent);
+    strip.selectedItemProperty().addListener(
+        (observable, oldItem, newItem) -> updateSelection(oldItem, newItem));
+    strip.cellFactoryProperty().addListener((Observable it) -> buildContent());
+    strip.virtualizedProperty().addListener((Observable it) -> buildContent());
     buildContent();
   }
 
   private void scrollTo(T item) {
-    Node node = nodeMap.get(item);
-
-    if (node != null) {
-      SelectionStrip strip = getSkinnable();
-
-      strip.getProperties().remove(SCROLL_TO_KEY);
-
+    SelectionStrip<T> strip = getSkinnable();
+    double minX;
+    double width;
+    if (strip.isVirtualized()) {
+      int index = strip.getItems().indexOf(item);
+      if (index < 0 || index + 1 >= cellOffsets.length) {
+        return;
+      }
+      if (!isInView(cellOffsets[index], cellOffsets[index + 1])) {
+        // measure the cells around the item first, so they don't move anymore once they are shown
+        measureCellsAround(index);
+      }
+      minX = cellOffsets[index];
+      width = cellOffsets[index + 1] - minX;
+    } else {
+      Node node = nodeMap.get(item);
+      if (node == null) {
+        return;
+      }
       final Bounds nodeBounds = node.localToParent(node.getLayoutBounds());
+      minX = nodeBounds.getMinX();
+      width = nodeBounds.getWidth();
+    }
 
-      final double x = -nodeBounds.getMinX() + strip.getWidth() / 2 - nodeBounds.getWidth() / 2;
+    strip.getProperties().remove(SCROLL_TO_KEY);
 
-      final double x1 = -translateX.get();
-      final double x2 = x1 + strip.getLayoutBounds().getWidth();
+    final double x = -minX + strip.getWidth() / 2 - width / 2;
 
-      if (x1 > nodeBounds.getMinX() || x2 < nodeBounds.getMaxX()) {
-        if (strip.isAnimateScrolling()) {
-          KeyValue keyValue = new KeyValue(translateX, x);
-          KeyFrame keyFrame = new KeyFrame(strip.getAnimationDuration(), keyValue);
+    if (!isInView(minX, minX + width)) {
+      if (strip.isAnimateScrolling()) {
+        KeyValue keyValue = new KeyValue(translateX, x);
+        KeyFrame keyFrame = new KeyFrame(strip.getAnimationDuration(), keyValue);
 
-          Timeline timeline = new Timeline(keyFrame);
-          timeline.play();
-        } else {
-          translateX.set(x);
+        Timeline timeline = new Timeline(keyFrame);
+        if (strip.isVirtualized()) {
+          // cells which have been scrolled past may have been estimated wrongly
+          timeline.setOnFinished(event -> scrollTo(item));
         }
+        timeline.play();
+      } else {
+        translateX.set(x);
       }
     }
   }
 
+  private boolean isInView(double minX, double maxX) {
+    final double x1 = -translateX.get();
+    final double x2 = x1 + getSkinnable().getLayoutBounds().getWidth();
+    return x1 <= minX && x2 >= maxX;
+  }
+
   private void buildContent() {
+    nodeMap.values().forEach(this::discardCell);
     nodeMap.clear();
+    cellPool.forEach(this::discardCell);
+    cellPool.clear();
+    cellWidths.clear();
+    virtualContent.getChildren().clear();
+    firstCell = null;
+
+    boolean virtualized = getSkinnable().isVirtualized();
+    if (virtualized) {
+      content.getChildren().clear();
+      totalWidth.unbind();
+    } else {
+      content.getChildren().setAll(
+          getSkinnable().getItems().stream().map(this::createCell).collect(Collectors.toList()));
+      totalWidth.bind(content.widthProperty());
+      updateFirstCell();
+    }
+    content.setVisible(!virtualized);
+    virtualContent.setVisible(virtualized);
+    getSkinnable().requestLayout();
+  }
+
+  /**
+   * Only inserts, removes or moves the cells of the items which have been changed. Cells of items
+   * which are being removed and added again within the same change are being reused, as long as
+   * they have already been removed from the content by the time their item is being added.
+   */
+  private void updateContent(ListChangeListener.Change<? extends T> change) {
+    if (getSkinnable().isVirtualized()) {
+      // the cells of the visible items are being determined again during the next layout pass
+      while (change.next()) {
+        if (change.wasRemoved()) {
+          change.getRemoved().forEach(cellWidths::remove);
+        }
+      }
+      getSkinnable().requestLayout();
+      return;
+    }
+    ObservableList<Node> cells = content.getChildren();
+    // remove the cells of all removed items first, in case items have been moved within a change
+    Map<T, StripCell<T>> removedCells = new HashMap<>();
+    while (change.next()) {
+      for (T item : change.getRemoved()) {
+        StripCell<T> cell = nodeMap.remove(item);
+        if (cell != null) {
+          removedCells.put(item, cell);
+        }
+      }
+    }
+    change.reset();
+    while (change.next()) {
+      int from = change.getFrom();
+      if (change.wasPermutated()) {
+        List<Node> permutated = new ArrayList<>(cells.subList(from, change.getTo()));
+        for (int i = from; i < change.getTo(); i++) {
+          permutated.set(change.getPermutation(i) - from, cells.get(i));
+        }
+        cells.subList(from, change.getTo()).clear();
+        cells.addAll(from, permutated);
+      } else {
+        if (change.wasRemoved()) {
+          cells.remove(from, from + change.getRemovedSize());
+        }
+        if (change.wasAdded()) {
+          List<Node> addedCells = new ArrayList<>();
+          for (T item : change.getAddedSubList()) {
+            StripCell<T> cell = removedCells.get(item);
+            if (cell != null && cell.getParent() != content) {
+              removedCells.remove(item);
+              nodeMap.put(item, cell);
+            } else {
+              // the item is only being removed by a later part of the change
+              cell = obtainCell(item);
+            }
+            addedCells.add(cell);
+          }
+          cells.addAll(from, addedCells);
+        }
+      }
+    }
+    // cells of items which have been removed for good
+    removedCells.values().forEach(this::releaseCell);
+    updateFirstCell();
+    getSkinnable().requestLayout();
+  }
+
+  private StripCell<T> createCell(T item) {
     final SelectionStrip<T> strip = getSkinnable();
-    content.getChildren().setAll(strip.getItems().stream().map(item -> {
-      final StripCell<T> cell = strip.getCellFactory().call(strip);
-      nodeMap.put(item, cell);
-      cell.addEventHandler(MouseEvent.MOUSE_CLICKED, evt -> strip.setSelectedItem(item));
-      cell.setSelectionStrip(strip);
-      cell.setItem(item);
+    final StripCell<T> cell = strip.getCellFactory().call(strip);
+    nodeMap.put(item, cell);
+    cell.addEventHandler(MouseEvent.MOUSE_CLICKED, evt -> strip.setSelectedItem(cell.getItem()));
+    cell.setSelectionStrip(strip);
+    cell.setItem(item);
+    return cell;
+  }
+
+  /**
+   * Reuses a cell of the pool for the {@code item} or creates a new one if the pool is empty.
+   */
+  private StripCell<T> obtainCell(T item) {
+    StripCell<T> cell = cellPool.poll();
+    if (cell == null) {
+      cell = createCell(item);
+      if (getSkinnable().isVirtualized()) {
+        cell.setManaged(false);
+        virtualContent.getChildren().add(cell);
+      }
       return cell;
-    }).collect(Collectors.toList()));
-    strip.requestLayout();
+    }
+    cell.getStyleClass().removeAll(FIRST_CHILD);
+    if (getSkinnable().isVirtualized()) {
+      cell.setVisible(true);
+    } else {
+      cell.setSelectionStrip(getSkinnable());
+    }
+    cell.setItem(item);
+    // the selection might have changed while the cell was in the pool
+    cell.setSelected(item == getSkinnable().getSelectedItem());
+    nodeMap.put(item, cell);
+    return cell;
+  }
+
+  /**
+   * Only updates the cells of the previously and the newly selected item, independent of the
+   * amount of cells.
+   */
+  private void updateSelection(T oldItem, T newItem) {
+    StripCell<T> oldCell = nodeMap.get(oldItem);
+    if (oldCell != null) {
+      oldCell.setSelected(oldCell.getItem() == newItem);
+    }
+    StripCell<T> newCell = nodeMap.get(newItem);
+    if (newCell != null) {
+      newCell.setSelected(newCell.getItem() == newItem);
+    }
+  }
+
+  /**
+   * Puts the {@code cell}, which has already been removed from {@code nodeMap}, into the pool if
+   * it can be reused for other items or discards it otherwise.
+   */
+  private void releaseCell(StripCell<T> cell) {
+    boolean virtualized = getSkinnable().isVirtualized();
+    if (cell.isReusable() && (virtualized || cellPool.size() < MAX_POOLED_CELLS)) {
+      if (virtualized) {
+        // stays in virtualContent, so it doesn't need to be added again when being reused
+        cell.setVisible(false);
+      } else {
+        cell.setSelectionStrip(null);
+      }
+      cellPool.push(cell);
+    } else {
+      discardCell(cell);
+      virtualContent.getChildren().remove(cell);
+    }
+  }
+
+  private void discardCell(StripCell<T> cell) {
+    cell.setSelectionStrip(null);
+    cell.dispose();
+  }
+
+  /**
+   * Marks the first cell, since cells aren't being rebuilt anymore when the first item changes.
+   */
+  private void updateFirstCell() {
+    List<T> items = getSkinnable().getItems();
+    StripCell<T> newFirstCell = items.isEmpty() ? null : nodeMap.get(items.get(0));
+    if (newFirstCell == firstCell) {
+      return;
+    }
+    if (firstCell != null) {
+      firstCell.getStyleClass().removeAll(FIRST_CHILD);
+    }
+    if (newFirstCell != null && !newFirstCell.getStyleClass().contains(FIRST_CHILD)) {
+      newFirstCell.getStyleClass().add(FIRST_CHILD);
+    }
+    firstCell = newFirstCell;
+  }
+
+  /**
+   * Only creates the cells of the items which are visible or within {@link #VIRTUAL_BUFFER} of the
+   * visible area and positions them. The widths of all other items are being estimated.
+   */
+  private void layoutVirtualCells(double height) {
+    List<T> items = getSkinnable().getItems();
+    boolean measured = false;
+    for (int pass = 0; pass < MAX_MEASURE_PASSES && !measured; pass++) {
+      updateCellOffsets(items);
+      measured = !realizeVisibleCells(items);
+    }
+    if (!measured) {
+      updateCellOffsets(items);
+    }
+
+    for (int i = firstVisibleIndex; i <= lastVisibleIndex && i < items.size(); i++) {
+      StripCell<T> cell = nodeMap.get(items.get(i));
+      if (cell == null) {
+        continue;
+      }
+      boolean first = cell.getStyleClass().contains(FIRST_CHILD);
+      if (i == 0 && !first) {
+        cell.getStyleClass().add(FIRST_CHILD);
+      } else if (i != 0 && first) {
+        cell.getStyleClass().removeAll(FIRST_CHILD);
+      }
+      // size the cells just like the HBox of the non-virtualized mode does
+      double cellHeight = Math.max(cell.minHeight(-1), Math.min(height, cell.maxHeight(-1)));
+      cell.resizeRelocate(snapPosition(cellOffsets[i] + translateX.get()),
+          snapPosition((height - cellHeight) / 2), cellOffsets[i + 1] - cellOffsets[i],
+          cellHeight);
+    }
+  }
+
+  /**
+   * Calculates the position of all items from the measured or estimated widths of their cells.
+   */
+  private void updateCellOffsets(List<T> items) {
+    double estimatedWidth = DEFAULT_CELL_WIDTH;
+    if (!cellWidths.isEmpty()) {
+      double measuredWidth = 0;
+      for (double width : cellWidths.values()) {
+        measuredWidth += width;
+      }
+      estimatedWidth = snapSize(measuredWidth / cellWidths.size());
+    }
+    if (cellOffsets.length != items.size() + 1) {
+      cellOffsets = new double[items.size() + 1];
+    }
+    for (int i = 0; i < items.size(); i++) {
+      Double width = cellWidths.get(items.get(i));
+      cellOffsets[i + 1] = cellOffsets[i] + (width == null ? estimatedWidth : width);
+    }
+    totalWidth.set(cellOffsets[items.size()]);
+  }
+
+  /**
+   * Makes sure exactly the items in the visible area have a cell and measures them.
+   *
+   * @return true if the width of any cell differs from its estimated width
+   */
+  private boolean realizeVisibleCells(List<T> items) {
+    double viewStart = -translateX.get() - VIRTUAL_BUFFER;
+    double viewEnd = -translateX.get() + getSkinnable().getWidth() + VIRTUAL_BUFFER;
+    firstVisibleIndex = getCellIndex(viewStart);
+    lastVisibleIndex = Math.min(getCellIndex(viewEnd), items.size() - 1);
+
+    Set<T> visibleItems = new HashSet<>(items.subList(firstVisibleIndex, lastVisibleIndex + 1));
+    for (Iterator<Map.Entry<T, StripCell<T>>> iterator = nodeMap.entrySet().iterator();
+        iterator.hasNext(); ) {
+      Map.Entry<T, StripCell<T>> entry = iterator.next();
+      if (!visibleItems.contains(entry.getKey())) {
+        iterator.remove();
+        releaseCell(entry.getValue());
+      }
+    }
+
+    boolean changed = false;
+    for (int i = firstVisibleIndex; i <= lastVisibleIndex; i++) {
+      changed |= measureCell(items.get(i));
+    }
+    return changed;
+  }
+
+  /**
+   * Measures the cells left and right of the item at {@code index}, which will be visible when the
+   * item is being centered.
+   */
+  private void measureCellsAround(int index) {
+    List<T> items = getSkinnable().getItems();
+    double halfWidth = getSkinnable().getWidth() / 2 + VIRTUAL_BUFFER;
+    double measuredWidth = 0;
+    for (int i = index; i >= 0 && measuredWidth < halfWidth; i--) {
+      measureCell(items.get(i));
+      measuredWidth += cellWidths.get(items.get(i));
+    }
+    measuredWidth = 0;
+    for (int i = index; i < items.size() && measuredWidth < halfWidth; i++) {
+      measureCell(items.get(i));
+      measuredWidth += cellWidths.get(items.get(i));
+    }
+    updateCellOffsets(items);
+    // cells which aren't visible are being reused again during the next layout pass
+    getSkinnable().requestLayout();
+  }
+
+  /**
+   * Measures the cell of the {@code item}, which is being created or reused if necessary.
+   *
+   * @return true if the measured width differs from the last known width of the item
+   */
+  private boolean measureCell(T item) {
+    StripCell<T> cell = nodeMap.get(item);
+    if (cell == null) {
+      cell = obtainCell(item);
+      cell.applyCss();
+    }
+    double width = snapSize(cell.prefWidth(-1));
+    Double oldWidth = cellWidths.put(item, width);
+    return oldWidth == null || oldWidth != width;
+  }
+
+  /**
+   * Returns the index of the item at the position {@code x}, limited to the range of all items.
+   */
+  private int getCellIndex(double x) {
+    int low = 0;
+    int high = cellOffsets.length - 2;
+    while (low < high) {
+      int middle = (low + high + 1) >>> 1;
+      if (cellOffsets[middle] <= x) {
+        low = middle;
+      } else {
+        high = middle - 1;
+      }
+    }
+    return Math.max(low, 0);
   }
 
   private void setupListeners() {
-    translateX.addListener(it -> content.setTranslateX(translateX.get()));
+    translateX.addListener(it -> {
+      content.setTranslateX(translateX.get());
+      if (getSkinnable().isVirtualized()) {
+        // cells which are being scrolled into view need to be created
+        getSkinnable().requestLayout();
+      }
+    });
     getSkinnable().widthProperty().addListener(it -> fixTranslate());
+    // keep the scroll position within bounds when cells are being added or removed
+    totalWidth.addListener(it -> fixTranslate());
     translateX.addListener(it -> fixTranslate());
 
     showLeftScroll.addListener((it, oldShow, newShow) -> fadeSupport(newShow, leftFader, leftBtn));
@@ -181,7 +572,7 @@ public class SelectionStripSkin<T> extends SkinBase<SelectionStrip<T>> {
   private void setupBindings() {
     showLeftScroll.bind(translateX.lessThan(0));
     showRightScroll
-        .bind(translateX.add(content.widthProperty()).greaterThan(getSkinnable().widthProperty()));
+        .bind(translateX.add(totalWidth).greaterThan(getSkinnable().widthProperty()));
   }
 
   private void setupEventHandlers() {
@@ -196,12 +587,12 @@ public class SelectionStripSkin<T> extends SkinBase<SelectionStrip<T>> {
   }
 
   private void fixTranslate() {
-    if (content.getWidth() < getSkinnable().getWidth()) {
+    if (totalWidth.get() < getSkinnable().getWidth()) {
       translateX.set(0);
     } else {
       double newValue = translateX.get();
       newValue = Math.min(newValue, 0);
-      newValue = Math.max(newValue, -(content.getWidth() - getSkinnable().getWidth()));
+      newValue = Math.max(newValue, -(totalWidth.get() - getSkinnable().getWidth()));
       translateX.set(newValue);
     }
   }
@@ -232,7 +623,12 @@ public class SelectionStripSkin<T> extends SkinBase<SelectionStrip<T>> {
   @Override
   protected void layoutChildren(double contentX, double contentY, double contentWidth,
       double contentHeight) {
-    content.resizeRelocate(contentX, contentY, content.prefWidth(-1), contentHeight);
+    if (getSkinnable().isVirtualized()) {
+      virtualContent.resizeRelocate(contentX, contentY, contentWidth, contentHeight);
+      layoutVirtualCells(contentHeight);
+    } else {
+      content.resizeRelocate(contentX, contentY, content.prefWidth(-1), contentHeight);
+    }
 
     leftBtn.resizeRelocate(contentX, contentY + (contentHeight - leftBtn.prefHeight(-1)) / 2,
         leftBtn.prefWidth(-1), leftBtn.prefHeight(-1));
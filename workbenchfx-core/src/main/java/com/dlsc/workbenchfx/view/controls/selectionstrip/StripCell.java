@@ -1,7 +1,5 @@
 package com.dlsc.workbenchfx.view.controls.selectionstrip;
 
-import javafx.beans.InvalidationListener;
-import javafx.beans.WeakInvalidationListener;
 import javafx.beans.property.BooleanProperty;
 import javafx.beans.property.BooleanPropertyBase;
 import javafx.beans.property.ObjectProperty;
@@ -14,11 +12,6 @@ public class StripCell<T> extends Label {
 
   private static final PseudoClass PSEUDO_CLASS_SELECTED = PseudoClass.getPseudoClass("selected");
 
-  private final InvalidationListener selectionListener = it -> updateSelection();
-
-  private final WeakInvalidationListener weakSelectionListener = new WeakInvalidationListener(
-      selectionListener);
-
   /**
    * Constructs a new {@link StripCell}.
    */
@@ -27,24 +20,56 @@ public class StripCell<T> extends Label {
     setMaxWidth(Double.MAX_VALUE);
     setMaxHeight(Double.MAX_VALUE);
 
+    // changes of the selected item are being applied by the skin of the strip, only to the cells
+    // of the previously and newly selected item
     selectionStripProperty().addListener((it, oldStrip, newStrip) -> {
-      if (oldStrip != null) {
-        oldStrip.selectedItemProperty().removeListener(weakSelectionListener);
-      }
-
       if (newStrip != null) {
-        newStrip.selectedItemProperty().addListener(weakSelectionListener);
         updateSelection();
       }
     });
 
     itemProperty().addListener(it -> {
-      setText(getItem().toString());
+      updateItem(getItem(), getItem() == null);
       updateSelection();
     });
   }
 
+  /**
+   * Updates this cell to represent the {@code item}. Is being called whenever the item of this
+   * cell changes, which also happens when the cell is being reused for a different item instead of
+   * creating a new cell. Subclasses need to update everything depending on the item in here.
+   * The default implementation shows the {@link Object#toString()} of the {@code item}.
+   *
+   * @param item  which is now being represented by this cell
+   * @param empty true if the cell doesn't represent any item
+   */
+  protected void updateItem(T item, boolean empty) {
+    setText(empty ? "" : item.toString());
+  }
+
+  /**
+   * Defines whether the {@link SelectionStrip} may reuse this cell for a different item by calling
+   * {@link #setItem(Object)}, instead of creating a new cell. Subclasses which don't update all of
+   * their state in {@link #updateItem(Object, boolean)} should return false.
+   *
+   * @return true if this cell can be reused for other items
+   */
+  public boolean isReusable() {
+    return true;
+  }
+
+  /**
+   * Is being called by the {@link SelectionStrip} when this cell is being discarded, instead of
+   * being kept to be reused for other items. Subclasses which register their state anywhere else
+   * need to unregister it in here. The default implementation does nothing.
+   */
+  protected void dispose() {
+  }
+
   private void updateSelection() {
+    if (getSelectionStrip() == null) {
+      return;
+    }
     final T selectedItem = getSelectionStrip().getSelectedItem();
     setSelected(selectedItem == getItem());
   }
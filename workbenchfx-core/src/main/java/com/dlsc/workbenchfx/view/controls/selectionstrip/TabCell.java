@@ -8,27 +8,61 @@ public class TabCell extends StripCell<WorkbenchModule> {
 
   private static final String FIRST_CHILD = "first-child";
 
+  private Tab tab;
+  private Workbench workbench;
+
   /**
    * Constructs a new {@link TabCell}.
    */
   public TabCell() {
     super();
-    itemProperty().addListener(it -> {
-      // Remove text which was set in the listener of StripCell
-      setText("");
-      // Create Tab
-      Workbench workbench = getItem().getWorkbench();
-      Tab tab = workbench.getTabFactory().call(workbench);
-      tab.setModule(getItem());
-      setGraphic(tab);
-
-      /*
-        To remove the background-insets from this cell.
-        Otherwise the SelectionStrip's end would cut off the side.
-       */
-      if (getSelectionStrip().getItems().get(0).equals(getItem())) {
-        getStyleClass().add(FIRST_CHILD);
-      }
-    });
+  }
+
+  @Override
+  protected void updateItem(WorkbenchModule item, boolean empty) {
+    // Tabs don't show any text
+    setText("");
+    if (empty) {
+      setGraphic(null);
+      return;
+    }
+
+    // Reuse the Tab of the previous item if possible, otherwise create a new one
+    if (tab == null || !tab.isReusable()) {
+      disposeTab();
+      workbench = item.getWorkbench();
+      tab = workbench.getTabFactory().call(workbench);
+    }
+    tab.setModule(item);
+    setGraphic(tab);
+
+    /*
+      To remove the background-insets from this cell.
+      Otherwise the SelectionStrip's end would cut off the side.
+     */
+    if (getSelectionStrip().getItems().get(0).equals(item)
+        && !getStyleClass().contains(FIRST_CHILD)) {
+      getStyleClass().add(FIRST_CHILD);
+    }
+  }
+
+  @Override
+  protected void dispose() {
+    disposeTab();
+    tab = null;
+  }
+
+  /**
+   * Stops updating whether the current {@link Tab} is active, since it is being discarded.
+   */
+  private void disposeTab() {
+    if (tab != null) {
+      workbench.getActiveTabDispatcher().unregister(tab);
+    }
+  }
+
+  @Override
+  public boolean isReusable() {
+    return tab == null || tab.isReusable();
   }
 }
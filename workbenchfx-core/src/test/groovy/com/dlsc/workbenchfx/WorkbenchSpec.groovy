@@ -29,6 +29,7 @@ import org.testfx.framework.spock.ApplicationSpec
 import spock.lang.Shared
 import spock.lang.Unroll
 
+import java.util.concurrent.CompletableFuture
 import java.util.function.Consumer
 
 import static com.dlsc.workbenchfx.model.WorkbenchDialog.Type
@@ -263,6 +264,7 @@ class WorkbenchSpec extends ApplicationSpec {
         mockModule.getName() >> toString
         mockModule.getIcon() >> icon
         mockModule.activate() >> displayNode
+        mockModule.activateAsync() >> { CompletableFuture.completedFuture(displayNode) }
         mockModule.destroy() >> destroy
         mockModule.toString() >> toString
         return mockModule
@@ -13,6 +13,7 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.atLeast;
 import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
@@ -21,9 +22,14 @@ import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.withSettings;
 
+import com.dlsc.workbenchfx.model.LifecycleLatency;
+import com.dlsc.workbenchfx.model.PreparableModule;
 import com.dlsc.workbenchfx.model.WorkbenchDialog;
 import com.dlsc.workbenchfx.model.WorkbenchModule;
+import com.dlsc.workbenchfx.model.WorkbenchModule.LifecycleMethod;
+import com.dlsc.workbenchfx.model.WorkbenchModule.Phase;
 import com.dlsc.workbenchfx.model.WorkbenchOverlay;
 import com.dlsc.workbenchfx.testing.MockDialogControl;
 import com.dlsc.workbenchfx.testing.MockNavigationDrawer;
@@ -34,15 +40,24 @@ import com.dlsc.workbenchfx.view.controls.GlassPane;
 import com.dlsc.workbenchfx.view.controls.NavigationDrawer;
 import com.dlsc.workbenchfx.view.controls.ToolbarItem;
 import com.dlsc.workbenchfx.view.controls.dialog.DialogControl;
+import com.dlsc.workbenchfx.view.controls.selectionstrip.SelectionStrip;
 import de.jensd.fx.glyphs.fontawesome.FontAwesomeIcon;
 import de.jensd.fx.glyphs.fontawesome.FontAwesomeIconView;
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Consumer;
 import javafx.beans.property.BooleanProperty;
 import javafx.beans.property.ReadOnlyObjectProperty;
 import javafx.beans.property.SimpleBooleanProperty;
 import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
 import javafx.collections.ObservableList;
 import javafx.collections.ObservableMap;
 import javafx.event.EventHandler;
@@ -62,6 +77,9 @@ import javafx.scene.layout.StackPane;
 import javafx.scene.layout.VBox;
 import javafx.stage.Stage;
 import javafx.stage.WindowEvent;
+import javafx.util.Duration;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Tag;
 import org.junit.jupiter.api.Test;
@@ -71,6 +89,7 @@ import org.mockito.Mockito;
 import org.mockito.MockitoAnnotations;
 import org.testfx.api.FxRobot;
 import org.testfx.framework.junit5.ApplicationTest;
+import org.testfx.util.WaitForAsyncUtils;
 
 /**
  * Tests for {@link Workbench}.
@@ -327,6 +346,341 @@ class WorkbenchTest extends ApplicationTest {
   }
   // asciidoctor Documentation - end::openModule[]
 
+  @Test
+  void openModuleAsync() {
+    CompletableFuture<Node> activation = new CompletableFuture<>();
+    robot.interact(() -> {
+      when(first.activateAsync()).thenReturn(activation);
+      workbench.openModule(first);
+      assertSame(first, workbench.getActiveModule());
+      assertNull(workbench.getActiveModuleView()); // view is still being built
+      assertTrue(workbench.isActiveModuleViewPending());
+      assertEquals(1, workbench.getOpenModules().size());
+      // the activation is being timed until the view has been built
+      assertEquals(0, workbench.getLifecycleLatency(first, LifecycleMethod.ACTIVATE).getCount());
+    });
+
+    // complete the activation outside of the JavaFX Application Thread
+    activation.complete(moduleNodes[FIRST_INDEX]);
+    WaitForAsyncUtils.waitForFxEvents();
+
+    robot.interact(() -> {
+      assertSame(moduleNodes[FIRST_INDEX], workbench.getActiveModuleView());
+      assertFalse(workbench.isActiveModuleViewPending());
+      assertEquals(1, workbench.getLifecycleLatency(first, LifecycleMethod.ACTIVATE).getCount());
+    });
+  }
+
+  @Test
+  void openModuleAsyncSuperseded() {
+    CompletableFuture<Node> activation = new CompletableFuture<>();
+    robot.interact(() -> {
+      when(first.activateAsync()).thenReturn(activation);
+      workbench.openModule(first);
+      assertTrue(workbench.isActiveModuleViewPending());
+      // switch to another module before the view of the first module has been built
+      workbench.openModule(last);
+      assertSame(moduleNodes[LAST_INDEX], workbench.getActiveModuleView());
+      assertFalse(workbench.isActiveModuleViewPending());
+    });
+
+    activation.complete(moduleNodes[FIRST_INDEX]);
+    WaitForAsyncUtils.waitForFxEvents();
+
+    robot.interact(() -> {
+      // the view of the superseded activation is being discarded
+      assertSame(last, workbench.getActiveModule());
+      assertSame(moduleNodes[LAST_INDEX], workbench.getActiveModuleView());
+    });
+  }
+
+  @Test
+  void openModuleAsyncFailed() {
+    CompletableFuture<Node> activation = new CompletableFuture<>();
+    robot.interact(() -> {
+      when(first.activateAsync()).thenReturn(activation);
+      workbench.openModule(first);
+      assertTrue(workbench.isActiveModuleViewPending());
+    });
+
+    activation.completeExceptionally(new IllegalStateException("activation failed"));
+    WaitForAsyncUtils.waitForFxEvents();
+
+    robot.interact(() -> {
+      // go back to the home screen instead of displaying the placeholder forever
+      assertNull(workbench.getActiveModule());
+      assertNull(workbench.getActiveModuleView());
+      assertFalse(workbench.isActiveModuleViewPending());
+      assertEquals(Phase.INACTIVE, workbench.getModulePhase(first));
+      assertTrue(workbench.getOpenModules().contains(first));
+      // the error dialog is being shown
+      assertEquals(1, blockingOverlaysShown.size() + overlaysShown.size());
+
+      // activating the module again retries the activation
+      when(first.activateAsync()).thenCallRealMethod();
+      workbench.openModule(first);
+      assertSame(moduleNodes[FIRST_INDEX], workbench.getActiveModuleView());
+      assertEquals(Phase.ACTIVE, workbench.getModulePhase(first));
+    });
+  }
+
+  @Test
+  void openModulePreparable() {
+    WorkbenchModule preparable =
+        mock(WorkbenchModule.class, withSettings().extraInterfaces(PreparableModule.class));
+    when(preparable.activate()).thenReturn(moduleNodes[FIRST_INDEX]);
+    when(preparable.activateAsync()).thenCallRealMethod();
+    when(preparable.destroy()).thenReturn(true);
+    when(preparable.getToolbarControlsLeft()).thenReturn(FXCollections.observableArrayList());
+    when(preparable.getToolbarControlsRight()).thenReturn(FXCollections.observableArrayList());
+    List<Runnable> preparations = new ArrayList<>();
+
+    robot.interact(() -> {
+      workbench.setModuleExecutor(preparations::add);
+      workbench.getModules().add(preparable);
+      assertEquals(Phase.CLOSED, workbench.getModulePhase(preparable));
+
+      workbench.openModule(preparable);
+      assertSame(preparable, workbench.getActiveModule());
+      assertNull(workbench.getActiveModuleView()); // module is still being prepared
+      assertEquals(Phase.PREPARING, workbench.getModulePhase(preparable));
+      assertEquals(1, preparations.size());
+      verify(preparable).init(workbench);
+      verify(preparable, never()).activate();
+    });
+
+    // prepare the module outside of the JavaFX Application Thread
+    preparations.get(0).run();
+    WaitForAsyncUtils.waitForFxEvents();
+
+    robot.interact(() -> {
+      InOrder inOrder = inOrder(preparable);
+      inOrder.verify(preparable).init(workbench);
+      inOrder.verify((PreparableModule) preparable).prepare(workbench);
+      inOrder.verify(preparable).activate();
+      assertSame(moduleNodes[FIRST_INDEX], workbench.getActiveModuleView());
+      assertEquals(Phase.ACTIVE, workbench.getModulePhase(preparable));
+
+      workbench.openAddModulePage();
+      assertEquals(Phase.INACTIVE, workbench.getModulePhase(preparable));
+      workbench.closeModule(preparable);
+      assertEquals(Phase.CLOSED, workbench.getModulePhase(preparable));
+    });
+  }
+
+  @Test
+  void openModulePreparableFailed() {
+    WorkbenchModule preparable =
+        mock(WorkbenchModule.class, withSettings().extraInterfaces(PreparableModule.class));
+    when(preparable.activate()).thenReturn(moduleNodes[FIRST_INDEX]);
+    when(preparable.activateAsync()).thenCallRealMethod();
+    when(preparable.destroy()).thenReturn(true);
+    when(preparable.getToolbarControlsLeft()).thenReturn(FXCollections.observableArrayList());
+    when(preparable.getToolbarControlsRight()).thenReturn(FXCollections.observableArrayList());
+    doThrow(new IllegalStateException("preparation failed"))
+        .when((PreparableModule) preparable).prepare(workbench);
+    List<Runnable> preparations = new ArrayList<>();
+
+    robot.interact(() -> {
+      workbench.setModuleExecutor(preparations::add);
+      workbench.getModules().add(preparable);
+      workbench.openModule(preparable);
+      assertEquals(Phase.PREPARING, workbench.getModulePhase(preparable));
+    });
+
+    preparations.get(0).run();
+    WaitForAsyncUtils.waitForFxEvents();
+
+    robot.interact(() -> {
+      // go back to the home screen instead of displaying the placeholder forever
+      assertNull(workbench.getActiveModule());
+      assertFalse(workbench.isActiveModuleViewPending());
+      assertEquals(Phase.INACTIVE, workbench.getModulePhase(preparable));
+      verify(preparable, never()).activate();
+
+      // activating the module again prepares it again
+      workbench.openModule(preparable);
+      assertEquals(Phase.PREPARING, workbench.getModulePhase(preparable));
+      assertEquals(2, preparations.size());
+    });
+  }
+
+  @Test
+  void openModuleOutsideFxThread() {
+    assertThrows(IllegalStateException.class, () -> workbench.openModule(first));
+    assertThrows(IllegalStateException.class, () -> workbench.openAddModulePage());
+  }
+
+  @Test
+  void evictModuleViews() {
+    robot.interact(() -> {
+      workbench.setMaxResidentModuleViews(2);
+      workbench.openModule(first);
+      workbench.openModule(second);
+      assertNotNull(moduleNodes[FIRST_INDEX].getParent());
+      verify(first, never()).viewEvicted(any());
+
+      // opening a third module evicts the view of the least recently displayed module
+      workbench.openModule(last);
+      assertNull(moduleNodes[FIRST_INDEX].getParent());
+      assertNotNull(moduleNodes[SECOND_INDEX].getParent());
+      verify(first).viewEvicted(moduleNodes[FIRST_INDEX]);
+      verify(second, never()).viewEvicted(any());
+
+      // evicted view gets added to the scene graph again on the next visit
+      workbench.openModule(first);
+      assertNotNull(moduleNodes[FIRST_INDEX].getParent());
+      assertNull(moduleNodes[SECOND_INDEX].getParent());
+      verify(second).viewEvicted(moduleNodes[SECOND_INDEX]);
+
+      // the view of the active module is never evicted
+      workbench.setModuleViewNodeBudget(0);
+      assertNotNull(moduleNodes[FIRST_INDEX].getParent());
+      assertNull(moduleNodes[LAST_INDEX].getParent());
+      verify(last).viewEvicted(moduleNodes[LAST_INDEX]);
+    });
+  }
+
+  @Test
+  void tabVirtualizationThreshold() {
+    robot.interact(() -> {
+      SelectionStrip<?> tabBar = robot.lookup("#tab-bar").queryAs(SelectionStrip.class);
+      assertFalse(tabBar.isVirtualized());
+
+      workbench.setTabVirtualizationThreshold(1);
+      workbench.openModule(first);
+      assertFalse(tabBar.isVirtualized());
+
+      // tabs are being virtualized as soon as more modules are open than the threshold
+      workbench.openModule(second);
+      assertTrue(tabBar.isVirtualized());
+      assertEquals(2, tabBar.getItems().size());
+
+      workbench.closeModule(second);
+      assertFalse(tabBar.isVirtualized());
+
+      // changing the threshold takes effect immediately
+      workbench.setTabVirtualizationThreshold(0);
+      assertTrue(tabBar.isVirtualized());
+    });
+  }
+
+  @Test
+  void prewarmModule() {
+    robot.interact(() -> {
+      workbench.prewarmModule(first); // prewarming is disabled by default
+      workbench.setPrewarming(true);
+      workbench.prewarmModule(first);
+      verify(first, never()).init(workbench); // only prewarmed once the user is idle
+    });
+
+    await().atMost(5, TimeUnit.SECONDS).untilAsserted(() -> verify(first).init(workbench));
+
+    robot.interact(() -> {
+      assertEquals(0, workbench.getOpenModules().size());
+      workbench.openModule(first);
+      verify(first, times(1)).init(workbench); // prewarmed module is not initialized again
+      assertSame(moduleNodes[FIRST_INDEX], workbench.getActiveModuleView());
+    });
+  }
+
+  @Test
+  void releasePrewarmedModules() {
+    robot.interact(() -> {
+      workbench.setPrewarming(true);
+      workbench.prewarmModule(first);
+      workbench.prewarmModule(second);
+    });
+
+    await().atMost(5, TimeUnit.SECONDS).untilAsserted(() -> {
+      verify(first).init(workbench);
+      verify(second).init(workbench);
+    });
+
+    robot.interact(() -> {
+      // prewarmed modules are being destroyed when they are being removed
+      workbench.getModules().remove(first);
+      verify(first).destroy();
+      verify(second, never()).destroy();
+
+      // or when prewarming is being disabled
+      workbench.setPrewarming(false);
+      verify(second).destroy();
+
+      // and are being initialized again when they are being opened afterwards
+      workbench.openModule(second);
+      verify(second, times(2)).init(workbench);
+    });
+  }
+
+  @Test
+  void cancelPrewarming() {
+    robot.interact(() -> {
+      workbench.setPrewarming(true);
+      workbench.prewarmModule(first);
+      workbench.prewarmModule(second);
+      assertTrue(workbench.cancelPrewarming(first));
+      assertFalse(workbench.cancelPrewarming(first));
+      workbench.setMaxPrewarmedModules(0); // second exceeds the budget
+    });
+
+    WaitForAsyncUtils.sleep(1, TimeUnit.SECONDS);
+
+    robot.interact(() -> {
+      verify(first, never()).init(workbench);
+      verify(second, never()).init(workbench);
+    });
+  }
+
+  @Test
+  void lifecycleLatencies() {
+    robot.interact(() -> {
+      assertTrue(workbench.getLifecycleLatencies().isEmpty());
+
+      workbench.openModule(first);
+      workbench.openModule(second);
+      workbench.closeModule(first);
+
+      assertEquals(1, workbench.getLifecycleLatency(first, LifecycleMethod.INIT).getCount());
+      assertEquals(1, workbench.getLifecycleLatency(first, LifecycleMethod.ACTIVATE).getCount());
+      assertEquals(1, workbench.getLifecycleLatency(first, LifecycleMethod.DEACTIVATE).getCount());
+      assertEquals(1, workbench.getLifecycleLatency(first, LifecycleMethod.DESTROY).getCount());
+      assertEquals(0, workbench.getLifecycleLatency(second, LifecycleMethod.DESTROY).getCount());
+
+      // reading the latency of a method which hasn't been called doesn't start recording it
+      workbench.getLifecycleLatency(second, LifecycleMethod.DESTROY).record(1);
+      assertEquals(0, workbench.getLifecycleLatency(second, LifecycleMethod.DESTROY).getCount());
+
+      List<LifecycleLatency> latencies = workbench.getLifecycleLatencies();
+      assertEquals(6, latencies.size());
+      assertEquals("Module 0", latencies.get(0).getModule());
+      assertEquals("INIT", latencies.get(0).getMethod());
+
+      // latencies of removed modules are being dropped
+      workbench.getModules().remove(first);
+      latencies = workbench.getLifecycleLatencies();
+      assertEquals(2, latencies.size());
+      assertEquals("Module 1", latencies.get(0).getModule());
+
+      workbench.resetLifecycleLatencies();
+      assertTrue(workbench.getLifecycleLatencies().isEmpty());
+    });
+  }
+
+  @Test
+  void registerLatencyMBean() throws Exception {
+    ObjectName name = workbench.registerLatencyMBean();
+    try {
+      assertSame(name, workbench.registerLatencyMBean());
+      MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+      assertTrue(server.isRegistered(name));
+      assertEquals(0, ((Object[]) server.getAttribute(name, "LifecycleLatencies")).length);
+    } finally {
+      workbench.unregisterLatencyMBean();
+    }
+    assertFalse(ManagementFactory.getPlatformMBeanServer().isRegistered(name));
+  }
+
   // asciidoctor Documentation - tag::closeModule[]
   /**
    * Precondition: openModule tests pass.
@@ -664,6 +1018,28 @@ class WorkbenchTest extends ApplicationTest {
     });
   }
 
+  @Test
+  void closeModuleFromWorkerThread() throws Exception {
+    when(first.destroy()).thenReturn(false);
+    robot.interact(() -> {
+      workbench.openModule(first);
+      workbench.openModule(second);
+      workbench.closeModule(first);
+    });
+
+    // modules may call WorkbenchModule#close() on any thread
+    Thread worker = new Thread(() -> simulateModuleClose(first));
+    worker.start();
+    worker.join();
+    WaitForAsyncUtils.waitForFxEvents();
+
+    robot.interact(() -> {
+      assertSame(second, workbench.getActiveModule());
+      assertEquals(1, workbench.getOpenModules().size());
+      assertFalse(workbench.getOpenModules().contains(first));
+    });
+  }
+
   /**
    * Internal testing utility method.
    * Ignores calls to the getters of {@link WorkbenchModule}, which enables to safely call
@@ -672,6 +1048,7 @@ class WorkbenchTest extends ApplicationTest {
    */
   private void ignoreModuleGetters(WorkbenchModule... modules) {
     for (WorkbenchModule module : modules) {
+      verify(module, atLeast(0)).activateAsync();
       verify(module, atLeast(0)).getIcon();
       verify(module, atLeast(0)).getName();
       verify(module, atLeast(0)).getWorkbench();
@@ -824,6 +1201,23 @@ class WorkbenchTest extends ApplicationTest {
     });
   }
 
+  @Test
+  void pageIndicator() {
+    robot.interact(() -> {
+      Node pageIndicator = robot.lookup(".page-indicator").query();
+      // only shown as long as there are multiple pages
+      assertFalse(pageIndicator.isVisible());
+      assertFalse(pageIndicator.isManaged());
+
+      workbench.setModulesPerPage(1);
+      assertTrue(pageIndicator.isVisible());
+      assertTrue(pageIndicator.isManaged());
+
+      workbench.setModulesPerPage(mockModules.length);
+      assertFalse(pageIndicator.isVisible());
+    });
+  }
+
   private Workbench prepareWorkbench(int moduleAmount, int modulesPerPage) {
     WorkbenchModule[] modules = new WorkbenchModule[moduleAmount];
     for (int i = 0; i < moduleAmount; i++) {
@@ -1266,6 +1660,62 @@ class WorkbenchTest extends ApplicationTest {
     });
   }
 
+  @Test
+  void batchUpdate() {
+    robot.interact(() -> {
+      int currentSize = workbench.getModules().size();
+      AtomicInteger changes = new AtomicInteger();
+      workbench.getModules().addListener((ListChangeListener<WorkbenchModule>) c ->
+          changes.incrementAndGet());
+
+      workbench.batchUpdate(modules -> {
+        for (int i = 0; i < 10; i++) {
+          modules.add(createMockModule(
+              new Label(), null, true, "Batch Module " + i, workbench,
+              FXCollections.observableArrayList(), FXCollections.observableArrayList()
+          ));
+        }
+        modules.remove(mockModules[0]);
+        // listeners are only being notified after the update
+        assertEquals(0, changes.get());
+      });
+
+      assertEquals(1, changes.get());
+      assertEquals(currentSize + 9, workbench.getModules().size());
+    });
+  }
+
+  @Test
+  void moduleSearch() {
+    robot.interact(() -> {
+      WorkbenchModule calendar = createMockModule(
+          new Label(), null, true, "Calendar", workbench,
+          FXCollections.observableArrayList(), FXCollections.observableArrayList());
+      WorkbenchModule calculator = createMockModule(
+          new Label(), null, true, "Calculator", workbench,
+          FXCollections.observableArrayList(), FXCollections.observableArrayList());
+      workbench.getModules().add(calendar);
+      assertEquals(workbench.getModules(), workbench.getDisplayedModules());
+
+      workbench.setModuleSearchText("cal");
+      assertEquals(Collections.singletonList(calendar), workbench.getDisplayedModules());
+      assertEquals(1, workbench.getAmountOfPages());
+
+      // the search results are being updated along with the modules
+      workbench.getModules().add(calculator);
+      assertEquals(Arrays.asList(calendar, calculator), workbench.getDisplayedModules());
+      workbench.getModules().remove(calendar);
+      assertEquals(Collections.singletonList(calculator), workbench.getDisplayedModules());
+
+      // typos are being tolerated
+      workbench.setModuleSearchText("calculater");
+      assertEquals(Collections.singletonList(calculator), workbench.getDisplayedModules());
+
+      workbench.setModuleSearchText("");
+      assertEquals(workbench.getModules(), workbench.getDisplayedModules());
+    });
+  }
+
   // asciidoctor Documentation - tag::stageClosing[]
   /**
    * Test for {@link Workbench#setupCleanup()}.
@@ -1546,6 +1996,84 @@ class WorkbenchTest extends ApplicationTest {
   }
   // asciidoctor Documentation - end::stageClosing[]
 
+  /**
+   * Test for {@link Workbench#setupCleanup()} with a {@link Workbench#shutdownTimeoutProperty()}.
+   * Simulates the second module agreeing to being closed asynchronously, while the first module
+   * blocks the closing until the timeout has been reached.
+   */
+  @Test
+  void closeStageConcurrently() {
+    CompletableFuture<Boolean> firstDestruction = new CompletableFuture<>();
+    CompletableFuture<Boolean> secondDestruction = new CompletableFuture<>();
+    robot.interact(() -> {
+      workbench.setShutdownTimeout(Duration.millis(500));
+      when(first.destroyAsync()).thenReturn(firstDestruction);
+      when(second.destroyAsync()).thenReturn(secondDestruction);
+      workbench.openModule(first);
+      workbench.openModule(second);
+
+      closeStage();
+
+      // all open modules are being closed at once
+      verify(second).deactivate();
+      verify(first).destroyAsync();
+      verify(second).destroyAsync();
+      verify(first, never()).destroy();
+      verify(second, never()).destroy();
+      assertEquals(2, workbench.getOpenModules().size());
+      assertTrue(workbench.getScene().getWindow().isShowing());
+    });
+
+    // second module agrees from a background thread, first module never agrees
+    secondDestruction.complete(true);
+    WaitForAsyncUtils.sleep(1, TimeUnit.SECONDS);
+
+    robot.interact(() -> {
+      assertEquals(1, workbench.getOpenModules().size());
+      assertSame(first, workbench.getOpenModules().get(0));
+      assertFalse(workbench.getScene().getWindow().isShowing());
+    });
+  }
+
+  /**
+   * Test for {@link Workbench#setupCleanup()} with a {@link Workbench#shutdownTimeoutProperty()}.
+   * Simulates the first module refusing to be closed asynchronously and calling
+   * {@link WorkbenchModule#close()} later on.
+   */
+  @Test
+  void closeStageConcurrentlyVetoed() {
+    robot.interact(() -> {
+      workbench.setShutdownTimeout(Duration.seconds(5));
+      when(first.destroyAsync()).thenReturn(CompletableFuture.completedFuture(false));
+      when(second.destroyAsync()).thenReturn(CompletableFuture.completedFuture(true));
+      workbench.openModule(first);
+      workbench.openModule(second);
+
+      closeStage();
+
+      // the home screen is being shown while the modules are being closed
+      assertNull(workbench.getActiveModule());
+      assertEquals(2, workbench.getOpenModules().size());
+      assertTrue(workbench.getScene().getWindow().isShowing());
+    });
+
+    // user confirms the dialog of the first module
+    simulateModuleClose(first);
+    WaitForAsyncUtils.waitForFxEvents();
+
+    robot.interact(() -> {
+      assertTrue(workbench.getOpenModules().isEmpty());
+      assertFalse(workbench.getScene().getWindow().isShowing());
+
+      // close() only made the first module agree, it didn't close it on its own
+      verify(second, times(1)).deactivate();
+      verify(first, times(1)).activate();
+      verify(second, times(1)).activate();
+      verify(first, never()).destroy();
+      verify(second, never()).destroy();
+    });
+  }
+
   @Test
   void initNavigationDrawer() {
     // verify no NPE is thrown by the listener when setting a null control
@@ -0,0 +1,146 @@
+package com.dlsc.workbenchfx.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+import com.dlsc.workbenchfx.Workbench;
+import com.dlsc.workbenchfx.view.controls.GlyphImageView;
+import de.jensd.fx.glyphs.fontawesome.FontAwesomeIcon;
+import de.jensd.fx.glyphs.fontawesome.FontAwesomeIconView;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import javafx.scene.Node;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.testfx.api.FxToolkit;
+
+/**
+ * Test class for {@link LazyModule} and {@link ModuleDescriptor}.
+ *
+ * @author François Martin
+ * @author Marco Sanfratello
+ */
+class LazyModuleTest {
+
+  private static final String NAME = "Module";
+  private static final String CATEGORY = "Category";
+
+  private AtomicInteger created;
+  private TestModule module;
+  private ModuleDescriptor descriptor;
+  private LazyModule proxy;
+  private Workbench workbench;
+
+  @BeforeAll
+  static void initToolkit() throws TimeoutException {
+    FxToolkit.registerPrimaryStage(); // workbench requires the toolkit to be initialized
+  }
+
+  @BeforeEach
+  void setUp() {
+    created = new AtomicInteger();
+    module = new TestModule();
+    descriptor = ModuleDescriptor.builder(NAME, () -> {
+      created.incrementAndGet();
+      return module;
+    }).icon(FontAwesomeIcon.QUESTION).category(CATEGORY).build();
+    proxy = descriptor.createProxy();
+    workbench = mock(Workbench.class);
+  }
+
+  @Test
+  void descriptor() {
+    assertEquals(NAME, descriptor.getName());
+    assertEquals(CATEGORY, descriptor.getCategory());
+    assertEquals(NAME, proxy.getName());
+    assertSame(descriptor, proxy.getDescriptor());
+    assertFalse(proxy.isLoaded());
+    assertEquals(0, created.get());
+  }
+
+  @Test
+  void icon() {
+    // glyph icons are text nodes, unless they are being rasterized explicitly
+    assertTrue(proxy.getIcon() instanceof FontAwesomeIconView);
+    assertTrue(module.getIcon() instanceof FontAwesomeIconView);
+    assertEquals(0, created.get());
+
+    LazyModule rasterized = ModuleDescriptor.builder(NAME, () -> module)
+        .icon(FontAwesomeIcon.QUESTION).rasterizedIcon(true).build().createProxy();
+    assertTrue(rasterized.getIcon() instanceof GlyphImageView);
+    module.setRasterizedIcon(true);
+    assertTrue(module.getIcon() instanceof GlyphImageView);
+  }
+
+  @Test
+  void init() {
+    proxy.init(workbench);
+
+    assertTrue(proxy.isLoaded());
+    assertEquals(1, created.get());
+    assertSame(module, proxy.getModule());
+    assertSame(workbench, proxy.getWorkbench());
+    assertSame(workbench, module.getWorkbench());
+
+    // module is only being created once
+    proxy.init(workbench);
+    assertEquals(1, created.get());
+  }
+
+  @Test
+  void lifecycle() {
+    proxy.init(workbench);
+
+    assertSame(module.view, proxy.activate());
+    assertSame(module.view, proxy.activateAsync().join());
+    proxy.deactivate();
+    assertEquals(1, module.deactivated);
+    assertFalse(proxy.destroy());
+    assertFalse(proxy.destroyAsync().join());
+  }
+
+  @Test
+  void close() {
+    proxy.init(workbench);
+
+    // the workbench only knows the proxy
+    module.close();
+    verify(workbench).completeModuleCloseable(proxy);
+  }
+
+  @Test
+  void factoryReturnsNull() {
+    LazyModule nullProxy = ModuleDescriptor.builder(NAME, () -> null).build().createProxy();
+    assertThrows(NullPointerException.class, nullProxy::getModule);
+  }
+
+  private static class TestModule extends WorkbenchModule {
+    private final Node view = mock(Node.class);
+    private int deactivated;
+
+    TestModule() {
+      super(NAME, FontAwesomeIcon.QUESTION);
+    }
+
+    @Override
+    public Node activate() {
+      return view;
+    }
+
+    @Override
+    public void deactivate() {
+      deactivated++;
+    }
+
+    @Override
+    public boolean destroy() {
+      return false;
+    }
+  }
+}
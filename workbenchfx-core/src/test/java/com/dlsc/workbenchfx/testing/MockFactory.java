@@ -30,6 +30,7 @@ public class MockFactory {
     when(mockModule.getName()).thenReturn(toString);
     when(mockModule.getIcon()).thenReturn(icon);
     when(mockModule.activate()).thenReturn(displayNode);
+    when(mockModule.activateAsync()).thenCallRealMethod();
     when(mockModule.destroy()).thenReturn(destroy);
     when(mockModule.toString()).thenReturn(toString);
     when(mockModule.getWorkbench()).thenReturn(workbench);
@@ -0,0 +1,94 @@
+package com.dlsc.workbenchfx.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import javafx.collections.ListChangeListener;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test class for {@link BatchedObservableList}.
+ *
+ * @author François Martin
+ * @author Marco Sanfratello
+ */
+class BatchedObservableListTest {
+
+  private BatchedObservableList<String> list;
+  private int invalidations;
+  private List<String> added;
+  private List<String> removed;
+
+  @BeforeEach
+  void setUp() {
+    list = new BatchedObservableList<>();
+    list.addAll("a", "b", "c");
+    invalidations = 0;
+    added = new ArrayList<>();
+    removed = new ArrayList<>();
+    list.addListener((ListChangeListener<String>) c -> {
+      invalidations++;
+      while (c.next()) {
+        added.addAll(c.getAddedSubList());
+        removed.addAll(c.getRemoved());
+      }
+    });
+  }
+
+  @Test
+  void withoutBatch() {
+    list.add("d");
+    list.remove("a");
+    assertEquals(2, invalidations);
+    assertEquals(Arrays.asList("b", "c", "d"), list);
+  }
+
+  @Test
+  void batch() {
+    list.beginBatch();
+    assertTrue(list.isBatching());
+    list.add("d");
+    list.add("e");
+    list.remove("a");
+    assertEquals(0, invalidations);
+
+    list.endBatch();
+    assertFalse(list.isBatching());
+    assertEquals(1, invalidations);
+    assertEquals(Arrays.asList("b", "c", "d", "e"), list);
+    assertEquals(Arrays.asList("d", "e"), added);
+    assertEquals(Arrays.asList("a"), removed);
+  }
+
+  @Test
+  void nestedBatch() {
+    list.beginBatch();
+    list.add("d");
+    list.beginBatch();
+    list.remove("b");
+    list.endBatch();
+    assertEquals(0, invalidations);
+
+    list.endBatch();
+    assertEquals(1, invalidations);
+    assertEquals(Arrays.asList("a", "c", "d"), list);
+  }
+
+  @Test
+  void emptyBatch() {
+    list.beginBatch();
+    list.endBatch();
+    assertEquals(0, invalidations);
+  }
+
+  @Test
+  void endBatchWithoutBegin() {
+    assertThrows(IllegalStateException.class, list::endBatch);
+  }
+}
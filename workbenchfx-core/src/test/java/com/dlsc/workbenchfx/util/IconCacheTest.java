@@ -0,0 +1,78 @@
+package com.dlsc.workbenchfx.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import de.jensd.fx.glyphs.GlyphIcons;
+import de.jensd.fx.glyphs.fontawesome.FontAwesomeIcon;
+import javafx.scene.image.Image;
+import javafx.scene.paint.Color;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.testfx.api.FxRobot;
+import org.testfx.framework.junit5.ApplicationTest;
+
+/**
+ * Test class for {@link IconCache}.
+ *
+ * @author François Martin
+ * @author Marco Sanfratello
+ */
+class IconCacheTest extends ApplicationTest {
+
+  private FxRobot robot;
+  private IconCache iconCache;
+
+  @BeforeEach
+  void setUp() {
+    robot = new FxRobot();
+    iconCache = new IconCache();
+  }
+
+  @Test
+  void getImage() {
+    robot.interact(() -> {
+      Image image = iconCache.getImage(FontAwesomeIcon.QUESTION, 16, Color.BLACK, 1);
+      assertSame(image, iconCache.getImage(FontAwesomeIcon.QUESTION, 16, Color.BLACK, 1));
+      assertEquals(1, iconCache.size());
+
+      // every combination is being rasterized separately
+      assertNotSame(image, iconCache.getImage(FontAwesomeIcon.HOME, 16, Color.BLACK, 1));
+      assertNotSame(image, iconCache.getImage(FontAwesomeIcon.QUESTION, 20, Color.BLACK, 1));
+      assertNotSame(image, iconCache.getImage(FontAwesomeIcon.QUESTION, 16, Color.WHITE, 1));
+      Image scaled = iconCache.getImage(FontAwesomeIcon.QUESTION, 16, Color.BLACK, 2);
+      assertEquals(image.getWidth() * 2, scaled.getWidth(), 1);
+      assertEquals(5, iconCache.size());
+
+      iconCache.clear();
+      assertEquals(0, iconCache.size());
+    });
+  }
+
+  @Test
+  void maxSize() {
+    robot.interact(() -> {
+      iconCache = new IconCache(2);
+      Image question = iconCache.getImage(FontAwesomeIcon.QUESTION, 16, Color.BLACK, 1);
+      Image home = iconCache.getImage(FontAwesomeIcon.HOME, 16, Color.BLACK, 1);
+      // mark as most recently used
+      assertSame(question, iconCache.getImage(FontAwesomeIcon.QUESTION, 16, Color.BLACK, 1));
+
+      // the least recently used image is being removed
+      iconCache.getImage(FontAwesomeIcon.STAR, 16, Color.BLACK, 1);
+      assertEquals(2, iconCache.size());
+      assertSame(question, iconCache.getImage(FontAwesomeIcon.QUESTION, 16, Color.BLACK, 1));
+      assertNotSame(home, iconCache.getImage(FontAwesomeIcon.HOME, 16, Color.BLACK, 1));
+    });
+  }
+
+  @Test
+  void unsupportedGlyph() {
+    GlyphIcons glyph = Mockito.mock(GlyphIcons.class);
+    assertThrows(IllegalArgumentException.class,
+        () -> iconCache.getImage(glyph, 16, Color.BLACK, 1));
+  }
+}
@@ -0,0 +1,99 @@
+package com.dlsc.workbenchfx.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Arrays;
+import javafx.collections.ListChangeListener;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test class for {@link IndexedObservableList}.
+ *
+ * @author François Martin
+ * @author Marco Sanfratello
+ */
+class IndexedObservableListTest {
+
+  private static final String A = "a";
+  private static final String B = "b";
+  private static final String C = "c";
+  private static final String D = "d";
+
+  private IndexedObservableList<String> list;
+
+  @BeforeEach
+  void setUp() {
+    list = new IndexedObservableList<>();
+    list.addAll(A, B, C);
+  }
+
+  @Test
+  void append() {
+    list.add(D);
+    assertEquals(Arrays.asList(A, B, C, D), list);
+    assertEquals(0, list.indexOf(A));
+    assertEquals(3, list.indexOf(D));
+    assertTrue(list.contains(D));
+  }
+
+  @Test
+  void insert() {
+    list.add(1, D);
+    assertEquals(Arrays.asList(A, D, B, C), list);
+    assertEquals(0, list.indexOf(A));
+    assertEquals(1, list.indexOf(D));
+    assertEquals(2, list.indexOf(B));
+    assertEquals(3, list.lastIndexOf(C));
+  }
+
+  @Test
+  void remove() {
+    assertTrue(list.remove(A));
+    assertFalse(list.remove(A));
+    assertFalse(list.contains(A));
+    assertEquals(-1, list.indexOf(A));
+    assertEquals(0, list.indexOf(B));
+    assertEquals(1, list.indexOf(C));
+
+    list.remove(1);
+    list.add(D);
+    assertEquals(Arrays.asList(B, D), list);
+    assertEquals(1, list.indexOf(D));
+  }
+
+  @Test
+  void set() {
+    list.set(1, D);
+    assertFalse(list.contains(B));
+    assertEquals(1, list.indexOf(D));
+    // setting the same element again is allowed
+    list.set(1, D);
+    assertThrows(IllegalArgumentException.class, () -> list.set(0, C));
+  }
+
+  @Test
+  void duplicates() {
+    assertThrows(IllegalArgumentException.class, () -> list.add(A));
+    assertEquals(3, list.size());
+  }
+
+  @Test
+  void identity() {
+    String copy = new String(A);
+    assertFalse(list.contains(copy));
+    assertEquals(-1, list.indexOf(copy));
+  }
+
+  @Test
+  void changes() {
+    int[] changes = new int[1];
+    list.addListener((ListChangeListener<String>) c -> changes[0]++);
+    list.remove(B);
+    list.add(D);
+    assertEquals(2, changes[0]);
+  }
+}
@@ -0,0 +1,84 @@
+package com.dlsc.workbenchfx.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test class for {@link LatencyHistogram}.
+ *
+ * @author François Martin
+ * @author Marco Sanfratello
+ */
+class LatencyHistogramTest {
+
+  private LatencyHistogram histogram;
+
+  @BeforeEach
+  void setUp() {
+    histogram = new LatencyHistogram();
+  }
+
+  @Test
+  void empty() {
+    assertEquals(0, histogram.getCount());
+    assertEquals(0, histogram.getMax());
+    assertEquals(0, histogram.getPercentile(50));
+  }
+
+  @Test
+  void percentiles() {
+    // 1ms to 100ms
+    for (int i = 1; i <= 100; i++) {
+      histogram.record(TimeUnit.MILLISECONDS.toNanos(i));
+    }
+    assertEquals(100, histogram.getCount());
+    assertEquals(TimeUnit.MILLISECONDS.toNanos(100), histogram.getMax());
+    assertWithinError(TimeUnit.MILLISECONDS.toNanos(50), histogram.getPercentile(50));
+    assertWithinError(TimeUnit.MILLISECONDS.toNanos(99), histogram.getPercentile(99));
+    assertEquals(histogram.getMax(), histogram.getPercentile(100));
+  }
+
+  @Test
+  void exactBelowSixteenMicros() {
+    histogram.record(TimeUnit.MICROSECONDS.toNanos(3));
+    histogram.record(TimeUnit.MICROSECONDS.toNanos(7));
+    assertEquals(TimeUnit.MICROSECONDS.toNanos(4), histogram.getPercentile(50));
+    assertEquals(TimeUnit.MICROSECONDS.toNanos(7), histogram.getPercentile(100));
+  }
+
+  @Test
+  void extremeValues() {
+    histogram.record(-1);
+    histogram.record(Long.MAX_VALUE);
+    assertEquals(2, histogram.getCount());
+    assertEquals(Long.MAX_VALUE, histogram.getMax());
+    assertEquals(TimeUnit.MICROSECONDS.toNanos(1), histogram.getPercentile(50));
+    assertEquals(Long.MAX_VALUE, histogram.getPercentile(100));
+  }
+
+  @Test
+  void invalidPercentile() {
+    assertThrows(IllegalArgumentException.class, () -> histogram.getPercentile(-1));
+    assertThrows(IllegalArgumentException.class, () -> histogram.getPercentile(101));
+  }
+
+  @Test
+  void reset() {
+    histogram.record(1000);
+    histogram.reset();
+    assertEquals(0, histogram.getCount());
+    assertEquals(0, histogram.getMax());
+    assertEquals(0, histogram.getPercentile(99));
+  }
+
+  private void assertWithinError(long expected, long actual) {
+    assertTrue(actual >= expected, "expected at least " + expected + ", but was " + actual);
+    assertTrue(actual <= expected * 1.125, "expected at most 12.5% more than " + expected
+        + ", but was " + actual);
+  }
+}
@@ -0,0 +1,73 @@
+package com.dlsc.workbenchfx.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.mockito.Mockito.mock;
+
+import com.dlsc.workbenchfx.model.WorkbenchModule;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test class for {@link ModuleUsageStatistics}.
+ *
+ * @author François Martin
+ * @author Marco Sanfratello
+ */
+class ModuleUsageStatisticsTest {
+
+  private ModuleUsageStatistics statistics;
+  private WorkbenchModule first;
+  private WorkbenchModule second;
+  private WorkbenchModule third;
+
+  @BeforeEach
+  void setUp() {
+    statistics = new ModuleUsageStatistics();
+    first = mock(WorkbenchModule.class);
+    second = mock(WorkbenchModule.class);
+    third = mock(WorkbenchModule.class);
+  }
+
+  @Test
+  void recordTransition() {
+    statistics.recordTransition(first, second);
+    statistics.recordTransition(first, second);
+    statistics.recordTransition(second, first);
+    // ignored transitions
+    statistics.recordTransition(null, first);
+    statistics.recordTransition(first, null);
+    statistics.recordTransition(first, first);
+
+    assertEquals(2, statistics.getTransitionCount(first, second));
+    assertEquals(1, statistics.getTransitionCount(second, first));
+    assertEquals(0, statistics.getTransitionCount(first, first));
+    assertEquals(0, statistics.getTransitionCount(third, first));
+  }
+
+  @Test
+  void predictNext() {
+    assertNull(statistics.predictNext(first, 1));
+
+    statistics.recordTransition(first, second);
+    statistics.recordTransition(first, third);
+    statistics.recordTransition(first, third);
+
+    assertSame(third, statistics.predictNext(first, 1));
+    assertSame(third, statistics.predictNext(first, 2));
+    assertNull(statistics.predictNext(first, 3));
+    assertNull(statistics.predictNext(second, 1));
+  }
+
+  @Test
+  void forget() {
+    statistics.recordTransition(first, second);
+    statistics.recordTransition(second, third);
+    statistics.forget(second);
+
+    assertEquals(0, statistics.getTransitionCount(first, second));
+    assertEquals(0, statistics.getTransitionCount(second, third));
+    assertNull(statistics.predictNext(first, 1));
+  }
+}
@@ -0,0 +1,97 @@
+package com.dlsc.workbenchfx.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Map;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test class for {@link SearchIndex}.
+ *
+ * @author François Martin
+ * @author Marco Sanfratello
+ */
+class SearchIndexTest {
+
+  private static final String CALENDAR = "calendar";
+  private static final String CUSTOMERS = "customers";
+  private static final String NOTES = "notes";
+
+  private SearchIndex<String> index;
+
+  @BeforeEach
+  void setUp() {
+    index = new SearchIndex<>();
+    index.add(CALENDAR, "Calendar", "Office");
+    index.add(CUSTOMERS, "Customer Management", "Sales");
+    index.add(NOTES, "Notes", "Office");
+  }
+
+  @Test
+  void prefix() {
+    Map<String, Double> results = index.search("c");
+    assertEquals(2, results.size());
+    assertTrue(results.containsKey(CALENDAR));
+    assertTrue(results.containsKey(CUSTOMERS));
+
+    results = index.search("Cal");
+    assertEquals(1, results.size());
+    assertEquals(1, results.get(CALENDAR), 0);
+  }
+
+  @Test
+  void words() {
+    // any word of all texts may be searched for, independent of case and punctuation
+    assertTrue(index.search("management").containsKey(CUSTOMERS));
+    assertTrue(index.search("cust-man").containsKey(CUSTOMERS));
+    assertEquals(2, index.search("office").size());
+  }
+
+  @Test
+  void typos() {
+    Map<String, Double> results = index.search("calender");
+    assertEquals(1, results.size());
+    assertTrue(results.get(CALENDAR) < 1);
+    assertTrue(index.search("xyz").isEmpty());
+  }
+
+  @Test
+  void update() {
+    assertTrue(index.remove(NOTES));
+    assertFalse(index.remove(NOTES));
+    assertFalse(index.contains(NOTES));
+    assertEquals(1, index.search("office").size());
+
+    // adding an item again replaces its texts
+    index.add(CALENDAR, "Schedule");
+    assertTrue(index.search("office").isEmpty());
+    assertTrue(index.search("sched").containsKey(CALENDAR));
+    assertEquals(2, index.size());
+
+    index.clear();
+    assertEquals(0, index.size());
+    assertTrue(index.search("c").isEmpty());
+  }
+
+  @Test
+  void emptyQuery() {
+    assertFalse(SearchIndex.isSearchable(" - "));
+    assertFalse(SearchIndex.isSearchable(null));
+    assertTrue(SearchIndex.isSearchable("a"));
+    assertTrue(index.search(" ").isEmpty());
+  }
+
+  @Test
+  void minSimilarity() {
+    assertThrows(IllegalArgumentException.class, () -> new SearchIndex<>(0));
+    assertThrows(IllegalArgumentException.class, () -> new SearchIndex<>(1.5));
+    SearchIndex<String> exact = new SearchIndex<>(1);
+    exact.add(CALENDAR, "Calendar");
+    assertTrue(exact.search("calender").isEmpty());
+    assertTrue(exact.search("calend").containsKey(CALENDAR));
+  }
+}
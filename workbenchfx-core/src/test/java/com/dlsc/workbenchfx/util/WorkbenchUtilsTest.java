@@ -11,6 +11,8 @@ import javafx.collections.ObservableList;
 import javafx.embed.swing.JFXPanel;
 import javafx.scene.Node;
 import javafx.scene.control.Button;
+import javafx.scene.layout.Pane;
+import javafx.scene.shape.Rectangle;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
@@ -94,4 +96,13 @@ public class WorkbenchUtilsTest {
       assertEquals(columnsPerRow[i], WorkbenchUtils.calculateColumnsPerRow(modulesPerPage[i]));
     }
   }
+
+  @Test
+  void countNodes() {
+    assertEquals(0, WorkbenchUtils.countNodes(null));
+    assertEquals(1, WorkbenchUtils.countNodes(new Rectangle()));
+    Pane inner = new Pane(new Rectangle(), new Rectangle());
+    Pane root = new Pane(inner, new Rectangle());
+    assertEquals(5, WorkbenchUtils.countNodes(root));
+  }
 }
@@ -1,19 +1,34 @@
 package com.dlsc.workbenchfx.view;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.reset;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import com.dlsc.workbenchfx.Workbench;
 import com.dlsc.workbenchfx.view.controls.module.Page;
+import javafx.beans.property.BooleanProperty;
 import javafx.beans.property.IntegerProperty;
+import javafx.beans.property.SimpleBooleanProperty;
 import javafx.beans.property.SimpleIntegerProperty;
-import javafx.css.PseudoClass;
+import javafx.beans.property.SimpleStringProperty;
+import javafx.beans.property.StringProperty;
+import javafx.scene.Node;
+import javafx.scene.control.TextField;
 import javafx.util.Callback;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.MockitoAnnotations;
 import org.testfx.framework.junit5.ApplicationTest;
 
 public class AddModulePresenterTest extends ApplicationTest {
@@ -23,11 +38,18 @@ public class AddModulePresenterTest extends ApplicationTest {
   private AddModuleView mockView;
   private Callback<Workbench, Page> mockCall;
 
-  private static final PseudoClass ONE_PAGE_STATE = PseudoClass.getPseudoClass("one-page");
   private final IntegerProperty amountOfPages = new SimpleIntegerProperty(1);
+  private final StringProperty moduleSearchText = new SimpleStringProperty("");
+  private final BooleanProperty moduleSearch = new SimpleBooleanProperty();
+  private TextField searchField;
+
+  @Captor
+  private ArgumentCaptor<Callback<Integer, Node>> pageFactory;
 
   @BeforeEach
   void setup() {
+    MockitoAnnotations.initMocks(this);
+
     mockCall = mock(Callback.class);
     when(mockCall.call(any())).thenReturn(null);
 
@@ -35,8 +57,12 @@ public class AddModulePresenterTest extends ApplicationTest {
     when(mockBench.getAmountOfPages()).thenReturn(1);
     when(mockBench.amountOfPagesProperty()).thenReturn(amountOfPages);
     when(mockBench.getPageFactory()).thenReturn(mockCall);
+    when(mockBench.moduleSearchTextProperty()).thenReturn(moduleSearchText);
+    when(mockBench.moduleSearchProperty()).thenReturn(moduleSearch);
 
+    searchField = new TextField();
     mockView = mock(AddModuleView.class);
+    when(mockView.getSearchField()).thenReturn(searchField);
   }
 
   @Test
@@ -44,9 +70,8 @@ public class AddModulePresenterTest extends ApplicationTest {
     addModulePresenter = new AddModulePresenter(mockBench, mockView);
 
     verify(mockView).setPageCount(1);
-    verify(mockView).pseudoClassStateChanged(ONE_PAGE_STATE, true);
     verify(mockView).setPageFactory(any());
-    verify(mockView).setMaxPageIndicatorCount(Integer.MAX_VALUE);
+    verify(mockView).setMaxPageIndicatorCount(1);
   }
 
   @Test
@@ -55,11 +80,59 @@ public class AddModulePresenterTest extends ApplicationTest {
 
     amountOfPages.setValue(2); // Change from 1 to 2 pages
     verify(mockView).setPageCount(2);
-    verify(mockView).pseudoClassStateChanged(ONE_PAGE_STATE, false);
 
     reset(mockView); // Otherwise, the call before would still count and two interactions are logged
     amountOfPages.setValue(1); // Change from 2 to 1 pages
     verify(mockView).setPageCount(1);
-    verify(mockView).pseudoClassStateChanged(ONE_PAGE_STATE, true);
+  }
+
+  @Test
+  void testPageCache() {
+    when(mockCall.call(any())).thenAnswer(invocation -> mock(Page.class));
+    addModulePresenter = new AddModulePresenter(mockBench, mockView);
+    verify(mockView).setPageFactory(pageFactory.capture());
+
+    // pages are only being built once
+    Page first = (Page) pageFactory.getValue().call(0);
+    assertSame(first, pageFactory.getValue().call(0));
+    verify(mockCall, times(1)).call(mockBench);
+
+    // least recently used pages are being evicted
+    for (int i = 1; i <= AddModulePresenter.PAGE_CACHE_SIZE; i++) {
+      pageFactory.getValue().call(i);
+    }
+    verify(first).dispose();
+    assertNotSame(first, pageFactory.getValue().call(0));
+  }
+
+  @Test
+  void testPageCacheAmountOfPages() {
+    when(mockCall.call(any())).thenAnswer(invocation -> mock(Page.class));
+    amountOfPages.setValue(2);
+    addModulePresenter = new AddModulePresenter(mockBench, mockView);
+    verify(mockView).setPageFactory(pageFactory.capture());
+    Page first = (Page) pageFactory.getValue().call(0);
+    Page second = (Page) pageFactory.getValue().call(1);
+
+    // pages which don't exist anymore are being removed from the cache
+    amountOfPages.setValue(1);
+    verify(first, never()).dispose();
+    verify(second).dispose();
+    assertSame(first, pageFactory.getValue().call(0));
+  }
+
+  @Test
+  void testModuleSearch() {
+    addModulePresenter = new AddModulePresenter(mockBench, mockView);
+    assertFalse(searchField.isVisible());
+    moduleSearch.set(true);
+    assertTrue(searchField.isVisible());
+
+    searchField.setText("cal");
+    assertEquals("cal", moduleSearchText.get());
+    verify(mockView).setCurrentPageIndex(0);
+
+    moduleSearchText.set("");
+    assertEquals("", searchField.getText());
   }
 }
@@ -0,0 +1,111 @@
+package com.dlsc.workbenchfx.view.controls.module;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.dlsc.workbenchfx.Workbench;
+import com.dlsc.workbenchfx.model.WorkbenchModule;
+import com.dlsc.workbenchfx.testing.MockTab;
+import javafx.beans.property.ObjectProperty;
+import javafx.beans.property.SimpleObjectProperty;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.testfx.api.FxRobot;
+import org.testfx.framework.junit5.ApplicationTest;
+
+/**
+ * Test class for {@link ActiveTabDispatcher}.
+ *
+ * @author François Martin
+ * @author Marco Sanfratello
+ */
+class ActiveTabDispatcherTest extends ApplicationTest {
+
+  private FxRobot robot;
+  private ObjectProperty<WorkbenchModule> activeModule;
+  private ActiveTabDispatcher dispatcher;
+  private Workbench mockBench;
+  private WorkbenchModule[] mockModules = new WorkbenchModule[3];
+
+  @BeforeEach
+  void setUp() {
+    robot = new FxRobot();
+    activeModule = new SimpleObjectProperty<>();
+    dispatcher = new ActiveTabDispatcher(activeModule);
+    mockBench = mock(Workbench.class);
+    when(mockBench.getActiveTabDispatcher()).thenReturn(dispatcher);
+    for (int i = 0; i < mockModules.length; i++) {
+      mockModules[i] = mock(WorkbenchModule.class);
+      when(mockModules[i].getName()).thenReturn("Module " + i);
+    }
+  }
+
+  @Test
+  void activeTab() {
+    robot.interact(() -> {
+      Tab[] tabs = new Tab[mockModules.length];
+      for (int i = 0; i < tabs.length; i++) {
+        tabs[i] = createTab(mockModules[i]);
+      }
+
+      activeModule.set(mockModules[1]);
+      assertFalse(tabs[0].isActiveTab());
+      assertTrue(tabs[1].isActiveTab());
+      assertFalse(tabs[2].isActiveTab());
+
+      // only the previously and newly active tabs change
+      activeModule.set(mockModules[2]);
+      assertFalse(tabs[1].isActiveTab());
+      assertTrue(tabs[2].isActiveTab());
+
+      // tabs of the active module are active right away
+      assertTrue(createTab(mockModules[2]).isActiveTab());
+
+      activeModule.set(null);
+      assertFalse(tabs[2].isActiveTab());
+    });
+  }
+
+  @Test
+  void moduleChanged() {
+    robot.interact(() -> {
+      Tab tab = createTab(mockModules[0]);
+      assertEquals(1, dispatcher.size());
+
+      // the tab is only being registered with its current module
+      tab.setModule(mockModules[1]);
+      assertEquals(1, dispatcher.size());
+      activeModule.set(mockModules[0]);
+      assertFalse(tab.isActiveTab());
+      activeModule.set(mockModules[1]);
+      assertTrue(tab.isActiveTab());
+    });
+  }
+
+  @Test
+  void unregister() {
+    robot.interact(() -> {
+      Tab discarded = createTab(mockModules[0]);
+      Tab tab = createTab(mockModules[1]);
+      assertEquals(2, dispatcher.size());
+
+      // the modules of discarded tabs are no longer being referenced
+      dispatcher.unregister(discarded);
+      assertEquals(1, dispatcher.size());
+      activeModule.set(mockModules[0]);
+      assertFalse(discarded.isActiveTab());
+
+      dispatcher.unregister(tab);
+      assertEquals(0, dispatcher.size());
+    });
+  }
+
+  private Tab createTab(WorkbenchModule module) {
+    Tab tab = new MockTab(mockBench);
+    tab.setModule(module);
+    return tab;
+  }
+}
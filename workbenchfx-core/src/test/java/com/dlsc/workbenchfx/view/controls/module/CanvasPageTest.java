@@ -0,0 +1,125 @@
+package com.dlsc.workbenchfx.view.controls.module;
+
+import static com.dlsc.workbenchfx.testing.MockFactory.createMockModule;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.dlsc.workbenchfx.Workbench;
+import com.dlsc.workbenchfx.model.WorkbenchModule;
+import com.dlsc.workbenchfx.testing.MockTile;
+import javafx.beans.property.SimpleIntegerProperty;
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import javafx.scene.Node;
+import javafx.scene.Scene;
+import javafx.scene.canvas.Canvas;
+import javafx.scene.control.Label;
+import javafx.scene.layout.StackPane;
+import javafx.stage.Stage;
+import org.junit.jupiter.api.Test;
+import org.testfx.api.FxRobot;
+import org.testfx.framework.junit5.ApplicationTest;
+
+/**
+ * Test for {@link CanvasPage}.
+ *
+ * @author François Martin
+ * @author Marco Sanfratello
+ */
+class CanvasPageTest extends ApplicationTest {
+
+  private static final int SIZE = 4;
+  private static final double WIDTH = 800;
+  private static final double HEIGHT = 600;
+  private static final double CELL_WIDTH = 100;
+  private static final double CELL_HEIGHT = 50;
+  private static final double GAP = 10;
+  // the 2x2 grid of tiles is being centered in the page
+  private static final double GRID_X = (WIDTH - 2 * CELL_WIDTH - GAP) / 2;
+  private static final double GRID_Y = (HEIGHT - 2 * CELL_HEIGHT - GAP) / 2;
+
+  private FxRobot robot;
+  private Workbench mockBench;
+  private WorkbenchModule[] mockModules = new WorkbenchModule[SIZE];
+  private ObservableList<WorkbenchModule> modulesList;
+
+  private CanvasPage page;
+  private CanvasPageSkin skin;
+
+  @Override
+  public void start(Stage stage) {
+    robot = new FxRobot();
+
+    mockBench = mock(Workbench.class);
+    Node moduleNode = new Label("Module Content");
+    for (int i = 0; i < mockModules.length; i++) {
+      mockModules[i] = createMockModule(
+          moduleNode, null, true, "Module " + i, mockBench,
+          FXCollections.observableArrayList(), FXCollections.observableArrayList()
+      );
+    }
+    when(mockBench.getTileFactory()).thenReturn(MockTile::new);
+    modulesList = FXCollections.observableArrayList(mockModules);
+    when(mockBench.getDisplayedModules()).thenReturn(modulesList);
+    when(mockBench.modulesPerPageProperty()).thenReturn(new SimpleIntegerProperty(SIZE));
+    when(mockBench.getModulesPerPage()).thenReturn(SIZE);
+
+    page = new CanvasPage(mockBench);
+    page.setPageIndex(0);
+
+    Scene scene = new Scene(new StackPane(page), WIDTH, HEIGHT);
+    stage.setScene(scene);
+    stage.show();
+    skin = (CanvasPageSkin) page.getSkin();
+
+    // the tiles are being styled by the CSS rules of the tile template
+    page.lookupAll(".tile-pane").forEach(tilePane -> tilePane.setStyle(
+        "-fx-hgap: " + GAP + "; -fx-vgap: " + GAP + "; -fx-alignment: CENTER;"));
+    page.lookupAll(".tile-box").forEach(tileBox -> tileBox.setStyle(
+        "-fx-pref-width: " + CELL_WIDTH + "; -fx-pref-height: " + CELL_HEIGHT + ";"));
+    page.applyCss();
+    page.layout();
+  }
+
+  @Test
+  void singleNode() {
+    robot.interact(() -> {
+      // all tiles are being drawn on the canvas, instead of being added to the scene graph
+      assertEquals(0, page.lookupAll(".tile-control").size());
+      assertEquals(1, page.lookupAll("Canvas").size());
+    });
+  }
+
+  @Test
+  void hitTesting() {
+    robot.interact(() -> {
+      assertEquals(0, skin.getTileIndex(GRID_X + 1, GRID_Y + 1));
+      assertEquals(1, skin.getTileIndex(GRID_X + CELL_WIDTH + GAP + 1, GRID_Y + 1));
+      assertEquals(3, skin.getTileIndex(
+          GRID_X + CELL_WIDTH + GAP + 1, GRID_Y + CELL_HEIGHT + GAP + 1));
+
+      // between and outside of the tiles
+      assertEquals(-1, skin.getTileIndex(GRID_X + CELL_WIDTH + GAP / 2, GRID_Y + 1));
+      assertEquals(-1, skin.getTileIndex(GRID_X - 1, GRID_Y + 1));
+      assertEquals(-1, skin.getTileIndex(GRID_X + 1, GRID_Y + 2 * (CELL_HEIGHT + GAP)));
+    });
+  }
+
+  @Test
+  void openTile() {
+    Canvas canvas = (Canvas) page.lookup("Canvas");
+    robot.clickOn(canvas.localToScreen(
+        GRID_X + CELL_WIDTH + GAP + 1, GRID_Y + CELL_HEIGHT + GAP + 1));
+    verify(mockBench).openModule(mockModules[3]);
+  }
+
+  @Test
+  void prewarmHoveredTile() {
+    Canvas canvas = (Canvas) page.lookup("Canvas");
+    robot.moveTo(canvas.localToScreen(GRID_X + CELL_WIDTH + GAP + 1, GRID_Y + 1));
+    verify(mockBench, timeout(1000)).prewarmModule(mockModules[1]);
+  }
+}
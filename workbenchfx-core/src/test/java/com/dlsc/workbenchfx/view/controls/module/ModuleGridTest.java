@@ -0,0 +1,137 @@
+package com.dlsc.workbenchfx.view.controls.module;
+
+import static com.dlsc.workbenchfx.testing.MockFactory.createMockModule;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.dlsc.workbenchfx.Workbench;
+import com.dlsc.workbenchfx.model.WorkbenchModule;
+import com.dlsc.workbenchfx.testing.MockTile;
+import java.util.ArrayList;
+import java.util.List;
+import javafx.beans.property.IntegerProperty;
+import javafx.beans.property.ObjectProperty;
+import javafx.beans.property.SimpleIntegerProperty;
+import javafx.beans.property.SimpleObjectProperty;
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import javafx.scene.Node;
+import javafx.scene.Scene;
+import javafx.scene.control.Label;
+import javafx.scene.control.ListCell;
+import javafx.scene.control.ListView;
+import javafx.stage.Stage;
+import javafx.util.Callback;
+import org.junit.jupiter.api.Test;
+import org.testfx.api.FxRobot;
+import org.testfx.framework.junit5.ApplicationTest;
+
+/**
+ * Test for {@link ModuleGrid}.
+ *
+ * @author François Martin
+ * @author Marco Sanfratello
+ */
+class ModuleGridTest extends ApplicationTest {
+
+  private static final int SIZE = 10000;
+  private static final int COLUMNS = 3;
+
+  private FxRobot robot;
+  private Workbench mockBench;
+  private WorkbenchModule[] mockModules = new WorkbenchModule[SIZE];
+  private ObservableList<WorkbenchModule> modulesList;
+  private int mockTileFactoryCalls = 0;
+
+  private ModuleGrid moduleGrid;
+  private ListView<?> rowView;
+
+  @Override
+  public void start(Stage stage) {
+    robot = new FxRobot();
+
+    mockBench = mock(Workbench.class);
+    Node moduleNode = new Label("Module Content");
+    for (int i = 0; i < mockModules.length; i++) {
+      mockModules[i] = createMockModule(
+          moduleNode, null, true, "Module " + i, mockBench,
+          FXCollections.observableArrayList(), FXCollections.observableArrayList()
+      );
+    }
+    Callback<Workbench, Tile> tileFactory = mockBench -> {
+      mockTileFactoryCalls++;
+      return new MockTile(mockBench);
+    };
+    ObjectProperty<Callback<Workbench, Tile>> tileFactoryProperty =
+        new SimpleObjectProperty<>(tileFactory);
+    when(mockBench.getTileFactory()).thenReturn(tileFactory);
+    when(mockBench.tileFactoryProperty()).thenReturn(tileFactoryProperty);
+
+    modulesList = FXCollections.observableArrayList(mockModules);
+    when(mockBench.getDisplayedModules()).thenReturn(modulesList);
+
+    IntegerProperty modulesPerPage = new SimpleIntegerProperty(COLUMNS * COLUMNS);
+    when(mockBench.modulesPerPageProperty()).thenReturn(modulesPerPage);
+    when(mockBench.getModulesPerPage()).thenReturn(COLUMNS * COLUMNS);
+
+    moduleGrid = new ModuleGrid(mockBench);
+    Scene scene = new Scene(moduleGrid, 600, 400);
+    stage.setScene(scene);
+    stage.show();
+    rowView = (ListView<?>) moduleGrid.lookup(".list-view");
+  }
+
+  @Test
+  void onlyVisibleRows() {
+    robot.interact(() -> {
+      assertEquals((SIZE + COLUMNS - 1) / COLUMNS, rowView.getItems().size());
+      // only the tiles of the visible rows are being created
+      assertTrue(mockTileFactoryCalls > 0);
+      assertTrue(mockTileFactoryCalls < SIZE / 100);
+      assertEquals(mockModules[0], getTiles().get(0).getModule());
+    });
+  }
+
+  @Test
+  void scrolling() {
+    robot.interact(() -> {
+      int tileFactoryCalls = mockTileFactoryCalls;
+      rowView.scrollTo(SIZE / COLUMNS / 2);
+      rowView.layout();
+      // tiles are being reused for the rows which are being scrolled to
+      assertTrue(mockTileFactoryCalls - tileFactoryCalls <= 2 * COLUMNS);
+      assertTrue(getTiles().stream()
+          .anyMatch(tile -> tile.getModule() == mockModules[SIZE / 2]));
+    });
+  }
+
+  @Test
+  void modulesChanged() {
+    robot.interact(() -> {
+      modulesList.remove(0);
+      rowView.layout();
+      assertEquals(mockModules[1], getTiles().get(0).getModule());
+      assertEquals((SIZE - 1 + COLUMNS - 1) / COLUMNS, rowView.getItems().size());
+
+      modulesList.clear();
+      rowView.layout();
+      assertTrue(getTiles().isEmpty());
+    });
+  }
+
+  /**
+   * Returns the tiles of all visible rows, from top to bottom.
+   */
+  private List<Tile> getTiles() {
+    List<Tile> tiles = new ArrayList<>();
+    rowView.lookupAll(".list-cell").stream()
+        .map(cell -> (ListCell<?>) cell)
+        .filter(cell -> cell.isVisible() && cell.getGraphic() != null)
+        .sorted((cell1, cell2) -> Double.compare(cell1.getLayoutY(), cell2.getLayoutY()))
+        .forEach(cell -> ((TileGridPane) cell.getGraphic()).getChildren()
+            .forEach(tile -> tiles.add((Tile) tile)));
+    return tiles;
+  }
+}
@@ -0,0 +1,120 @@
+package com.dlsc.workbenchfx.view.controls.module;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Collectors;
+import javafx.css.PseudoClass;
+import javafx.event.ActionEvent;
+import javafx.scene.Node;
+import javafx.scene.Scene;
+import javafx.scene.control.Button;
+import javafx.scene.control.TextField;
+import javafx.stage.Stage;
+import org.junit.jupiter.api.Test;
+import org.testfx.api.FxRobot;
+import org.testfx.framework.junit5.ApplicationTest;
+
+/**
+ * Test for {@link PageIndicator}.
+ *
+ * @author François Martin
+ * @author Marco Sanfratello
+ */
+class PageIndicatorTest extends ApplicationTest {
+
+  private static final PseudoClass SELECTED_STATE = PseudoClass.getPseudoClass("selected");
+  private static final int WINDOW_SIZE = 3;
+
+  private FxRobot robot;
+  private PageIndicator pageIndicator;
+
+  @Override
+  public void start(Stage stage) {
+    robot = new FxRobot();
+
+    pageIndicator = new PageIndicator();
+    pageIndicator.setWindowSize(WINDOW_SIZE);
+    pageIndicator.setPageCount(3);
+
+    Scene scene = new Scene(pageIndicator, 400, 100);
+    stage.setScene(scene);
+    stage.show();
+  }
+
+  @Test
+  void allPagesFit() {
+    robot.interact(() -> {
+      assertEquals(3, getShownBullets().size());
+      assertTrue(getShownBullets().get(0).getPseudoClassStates().contains(SELECTED_STATE));
+      assertFalse(getJumpField().isVisible());
+
+      getShownBullets().get(2).fire();
+      assertEquals(2, pageIndicator.getCurrentPageIndex());
+    });
+  }
+
+  @Test
+  void windowed() {
+    robot.interact(() -> {
+      int nodes = countNodes();
+      pageIndicator.setPageCount(10000);
+      pageIndicator.setCurrentPageIndex(5000);
+
+      // first page, window around the current page and last page
+      List<Button> bullets = getShownBullets();
+      assertEquals(WINDOW_SIZE + 2, bullets.size());
+      assertEquals("Page 1", bullets.get(0).getAccessibleText());
+      assertEquals("Page 5000", bullets.get(1).getAccessibleText());
+      assertTrue(bullets.get(2).getPseudoClassStates().contains(SELECTED_STATE));
+      assertEquals("Page 10000", bullets.get(WINDOW_SIZE + 1).getAccessibleText());
+      assertTrue(getJumpField().isVisible());
+
+      // the amount of nodes doesn't depend on the amount of pages
+      assertEquals(nodes, countNodes());
+
+      bullets.get(WINDOW_SIZE + 1).fire();
+      assertEquals(9999, pageIndicator.getCurrentPageIndex());
+    });
+  }
+
+  @Test
+  void jumpToPage() {
+    robot.interact(() -> {
+      pageIndicator.setPageCount(100);
+      TextField jumpField = getJumpField();
+      jumpField.setText("42");
+      jumpField.fireEvent(new ActionEvent());
+      assertEquals(41, pageIndicator.getCurrentPageIndex());
+      assertEquals("", jumpField.getText());
+
+      // invalid page numbers are being ignored or clamped
+      jumpField.setText("abc");
+      jumpField.fireEvent(new ActionEvent());
+      assertEquals(41, pageIndicator.getCurrentPageIndex());
+      jumpField.setText("1000");
+      jumpField.fireEvent(new ActionEvent());
+      assertEquals(99, pageIndicator.getCurrentPageIndex());
+    });
+  }
+
+  private List<Button> getShownBullets() {
+    return pageIndicator.lookupAll(".bullet-button").stream()
+        .filter(Node::isVisible)
+        .map(bullet -> (Button) bullet)
+        .sorted(Comparator.comparingInt(
+            bullet -> bullet.getParent().getChildrenUnmodifiable().indexOf(bullet)))
+        .collect(Collectors.toList());
+  }
+
+  private TextField getJumpField() {
+    return (TextField) pageIndicator.lookup(".jump-field");
+  }
+
+  private int countNodes() {
+    return pageIndicator.lookupAll("*").size();
+  }
+}
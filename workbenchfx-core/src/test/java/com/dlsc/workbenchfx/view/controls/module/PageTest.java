@@ -2,6 +2,7 @@ package com.dlsc.workbenchfx.view.controls.module;
 
 import static com.dlsc.workbenchfx.testing.MockFactory.createMockModule;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
@@ -10,6 +11,7 @@ import com.dlsc.workbenchfx.model.WorkbenchModule;
 import com.dlsc.workbenchfx.testing.MockPage;
 import com.dlsc.workbenchfx.testing.MockTile;
 import java.util.concurrent.CompletableFuture;
+import javafx.beans.InvalidationListener;
 import javafx.beans.property.IntegerProperty;
 import javafx.beans.property.SimpleIntegerProperty;
 import javafx.collections.FXCollections;
@@ -36,7 +38,6 @@ class PageTest extends ApplicationTest {
   private WorkbenchModule[] mockModules = new WorkbenchModule[SIZE];
   private Node[] moduleNodes = new Node[SIZE];
   private int mockTileFactoryCalls = 0;
-  private Tile[] mockTiles = new Tile[SIZE];
   private ObservableList<WorkbenchModule> modulesList;
 
   IntegerProperty modulesPerPage;
@@ -66,18 +67,14 @@ class PageTest extends ApplicationTest {
           moduleNodes[i], null, true, "Module " + i, mockBench,
           FXCollections.observableArrayList(), FXCollections.observableArrayList()
       );
-      MockTile mockTile = new MockTile(mockBench);
-      mockTile.setModule(mockModules[i]);
-      mockTiles[i] = mockTile;
     }
     when(mockBench.getTileFactory()).thenReturn(mockBench -> {
-      Tile mockTile = mockTiles[mockTileFactoryCalls % SIZE];
       mockTileFactoryCalls++;
-      return mockTile;
+      return new MockTile(mockBench);
     });
 
     modulesList = FXCollections.observableArrayList(mockModules);
-    when(mockBench.getModules()).thenReturn(modulesList);
+    when(mockBench.getDisplayedModules()).thenReturn(modulesList);
 
     modulesPerPage = new SimpleIntegerProperty();
     when(mockBench.modulesPerPageProperty()).thenReturn(modulesPerPage);
@@ -172,4 +169,62 @@ class PageTest extends ApplicationTest {
       assertEquals(mockModules[5], tiles0.get(0).getModule());
     });
   }
+
+  @Test
+  void updateTilesRecycling() {
+    robot.interact(() -> {
+      Tile firstTile = tiles0.get(0);
+      int factoryCalls = mockTileFactoryCalls;
+
+      // existing tiles are being reused when the list of modules changes
+      modulesList.remove(0);
+      assertEquals(factoryCalls, mockTileFactoryCalls);
+      assertEquals(firstTile, tiles0.get(0));
+      assertEquals(mockModules[1], firstTile.getModule());
+
+      // only the missing tile is being created
+      modulesList.add(0, mockModules[0]);
+      assertEquals(factoryCalls + 1, mockTileFactoryCalls);
+      assertEquals(mockModules[0], firstTile.getModule());
+      assertEquals(modulesPerPage.get(), tiles0.size());
+    });
+  }
+
+  @Test
+  void updateTilesTileFactoryChanged() {
+    robot.interact(() -> {
+      Tile firstTile = tiles0.get(0);
+      when(mockBench.getTileFactory()).thenReturn(mockBench -> new MockTile(mockBench));
+
+      // tiles of the previous factory are not being reused
+      modulesList.remove(SIZE - 1);
+      assertNotSame(firstTile, tiles0.get(0));
+      assertEquals(mockModules[0], tiles0.get(0).getModule());
+    });
+  }
+
+  @Test
+  void updateTilesUnaffectedPage() {
+    robot.interact(() -> {
+      int[] changes = new int[1];
+      tiles0.addListener((InvalidationListener) observable -> changes[0]++);
+      int factoryCalls = mockTileFactoryCalls;
+      WorkbenchModule appended = createMockModule(
+          new Label(), null, true, "Appended", mockBench,
+          FXCollections.observableArrayList(), FXCollections.observableArrayList()
+      );
+
+      // appending a module only affects the last page
+      modulesList.add(appended);
+      assertEquals(0, changes[0]);
+      assertEquals(factoryCalls + 1, mockTileFactoryCalls);
+      assertEquals(2, tiles1.size());
+      assertEquals(appended, tiles1.get(1).getModule());
+
+      // replacing a module on the last page doesn't affect the first page
+      modulesList.set(SIZE, mockModules[0]);
+      assertEquals(0, changes[0]);
+      assertEquals(mockModules[0], tiles1.get(1).getModule());
+    });
+  }
 }
@@ -71,6 +71,7 @@ class TabTest extends ApplicationTest {
     when(mockBench.getModules()).thenReturn(modulesList);
     activeModule = new SimpleObjectProperty<>();
     when(mockBench.activeModuleProperty()).thenReturn(activeModule);
+    when(mockBench.getActiveTabDispatcher()).thenReturn(new ActiveTabDispatcher(activeModule));
 
     tab = new MockTab(mockBench);
     tab.setModule(mockModules[0]);
@@ -101,7 +102,7 @@ class TabTest extends ApplicationTest {
     assertTrue(tab.isActiveTab());
     assertTrue(tab.getPseudoClassStates().contains(selected));
 
-    verify(mockBench, atLeastOnce()).activeModuleProperty();
+    verify(mockBench, atLeastOnce()).getActiveTabDispatcher();
   }
 
   @Test
@@ -0,0 +1,165 @@
+package com.dlsc.workbenchfx.view.controls.module;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import javafx.geometry.Insets;
+import javafx.geometry.Pos;
+import javafx.scene.layout.Region;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test class for {@link TileGridPane}.
+ *
+ * @author François Martin
+ * @author Marco Sanfratello
+ */
+class TileGridPaneTest {
+
+  private static final double CELL_WIDTH = 100;
+  private static final double CELL_HEIGHT = 50;
+  private static final double GAP = 10;
+
+  private TileGridPane pane;
+  private Region[] cells;
+
+  @BeforeEach
+  void setUp() {
+    pane = new TileGridPane();
+    pane.setHgap(GAP);
+    pane.setVgap(GAP);
+    pane.setColumns(2);
+    cells = new Region[5];
+    for (int i = 0; i < cells.length; i++) {
+      cells[i] = createCell(CELL_WIDTH, CELL_HEIGHT);
+    }
+    pane.getChildren().addAll(cells[0], cells[1], cells[2]);
+  }
+
+  @Test
+  void layoutCells() {
+    layoutPane();
+    assertCell(cells[0], 0, 0);
+    assertCell(cells[1], 1, 0);
+    assertCell(cells[2], 0, 1);
+    assertEquals(CELL_WIDTH, cells[0].getWidth());
+    assertEquals(CELL_HEIGHT, cells[0].getHeight());
+  }
+
+  @Test
+  void prefSize() {
+    pane.setPadding(new Insets(5));
+    assertEquals(5 + 2 * CELL_WIDTH + GAP + 5, pane.prefWidth(-1));
+    assertEquals(5 + 2 * CELL_HEIGHT + GAP + 5, pane.prefHeight(-1));
+
+    // cells are as large as the largest child
+    pane.getChildren().add(createCell(CELL_WIDTH * 2, CELL_HEIGHT));
+    assertEquals(5 + 4 * CELL_WIDTH + GAP + 5, pane.prefWidth(-1));
+
+    pane.getChildren().clear();
+    assertEquals(10, pane.prefWidth(-1));
+  }
+
+  @Test
+  void changeCells() {
+    layoutPane();
+    // insert
+    pane.getChildren().add(1, cells[3]);
+    layoutPane();
+    assertCell(cells[0], 0, 0);
+    assertCell(cells[3], 1, 0);
+    assertCell(cells[1], 0, 1);
+    assertCell(cells[2], 1, 1);
+
+    // remove
+    pane.getChildren().remove(cells[0]);
+    layoutPane();
+    assertCell(cells[3], 0, 0);
+    assertCell(cells[1], 1, 0);
+    assertCell(cells[2], 0, 1);
+
+    // move
+    pane.getChildren().remove(cells[2]);
+    pane.getChildren().add(0, cells[2]);
+    layoutPane();
+    assertCell(cells[2], 0, 0);
+    assertCell(cells[3], 1, 0);
+    assertCell(cells[1], 0, 1);
+  }
+
+  @Test
+  void changeCellsIncrementally() {
+    layoutPane();
+    // displace the cells before the changed index, they must not be laid out again
+    displace(cells[0]);
+    pane.getChildren().add(1, cells[3]);
+    layoutPane();
+    assertDisplaced(cells[0]);
+    assertCell(cells[3], 1, 0);
+    assertCell(cells[1], 0, 1);
+    assertCell(cells[2], 1, 1);
+
+    displace(cells[0]);
+    displace(cells[3]);
+    pane.getChildren().remove(cells[1]);
+    layoutPane();
+    assertDisplaced(cells[0]);
+    assertDisplaced(cells[3]);
+    assertCell(cells[2], 0, 1);
+  }
+
+  @Test
+  void columns() {
+    pane.setColumns(3);
+    layoutPane();
+    assertCell(cells[2], 2, 0);
+
+    pane.setColumns(1);
+    layoutPane();
+    assertCell(cells[1], 0, 1);
+    assertCell(cells[2], 0, 2);
+  }
+
+  @Test
+  void alignment() {
+    pane.setAlignment(Pos.CENTER);
+    pane.resize(2 * CELL_WIDTH + GAP + 100, 2 * CELL_HEIGHT + GAP + 40);
+    pane.layout();
+    assertEquals(50, cells[0].getLayoutX());
+    assertEquals(20, cells[0].getLayoutY());
+  }
+
+  @Test
+  void unmanaged() {
+    cells[1].setManaged(false);
+    layoutPane();
+    assertCell(cells[2], 1, 0);
+  }
+
+  private void layoutPane() {
+    pane.resize(pane.prefWidth(-1), pane.prefHeight(-1));
+    pane.layout();
+  }
+
+  private void assertCell(Region cell, int column, int row) {
+    assertEquals(column * (CELL_WIDTH + GAP), cell.getLayoutX());
+    assertEquals(row * (CELL_HEIGHT + GAP), cell.getLayoutY());
+  }
+
+  private static void displace(Region cell) {
+    cell.resizeRelocate(-1, -1, 1, 1);
+  }
+
+  private static void assertDisplaced(Region cell) {
+    assertEquals(-1, cell.getLayoutX());
+    assertEquals(-1, cell.getLayoutY());
+    assertEquals(1, cell.getWidth());
+    assertEquals(1, cell.getHeight());
+  }
+
+  private static Region createCell(double width, double height) {
+    Region cell = new Region();
+    cell.setPrefSize(width, height);
+    return cell;
+  }
+}
@@ -2,7 +2,9 @@ package com.dlsc.workbenchfx.view.controls.module;
 
 import static com.dlsc.workbenchfx.testing.MockFactory.createMockModule;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -10,11 +12,13 @@ import com.dlsc.workbenchfx.Workbench;
 import com.dlsc.workbenchfx.model.WorkbenchModule;
 import com.dlsc.workbenchfx.testing.MockTile;
 import java.util.concurrent.CompletableFuture;
+import javafx.beans.property.ReadOnlyObjectProperty;
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 import javafx.scene.Node;
 import javafx.scene.Scene;
 import javafx.scene.control.Label;
+import javafx.scene.layout.StackPane;
 import javafx.stage.Stage;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mock;
@@ -92,6 +96,41 @@ class TileTest extends ApplicationTest {
     assertEquals("tile-namewithbreaks", tile.getId());
   }
 
+  @Test
+  void lazyContent() {
+    robot.interact(() -> {
+      MockTile offscreenTile = new MockTile(mockBench);
+      offscreenTile.setModule(mockModules[2]);
+      // the icon is only being realized once the tile is being added to a scene
+      assertEquals("Module 2", offscreenTile.getName());
+      assertEquals("tile-module-2", offscreenTile.getId());
+      verify(mockModules[2], never()).getIcon();
+
+      new Scene(new StackPane(offscreenTile));
+      verify(mockModules[2]).getIcon();
+      assertEquals("Module Icon 2", ((Label) offscreenTile.iconProperty().get()).getText());
+
+      // changing the module offscreen doesn't keep the name, id or icon of the previous module
+      MockTile reusedTile = new MockTile(mockBench);
+      reusedTile.setModule(mockModules[4]);
+      ReadOnlyObjectProperty<Node> reusedIcon = reusedTile.iconProperty();
+      assertEquals("Module Icon 4", ((Label) reusedIcon.get()).getText());
+      reusedTile.setModule(mockModules[5]);
+      assertEquals("Module 5", reusedTile.getName());
+      assertEquals("tile-module-5", reusedTile.getId());
+      assertNull(reusedIcon.get());
+      verify(mockModules[5], never()).getIcon();
+      new Scene(new StackPane(reusedTile));
+      verify(mockModules[5]).getIcon();
+      assertEquals("Module Icon 5", ((Label) reusedTile.iconProperty().get()).getText());
+
+      // or once the icon is being asked for
+      MockTile drawnTile = new MockTile(mockBench);
+      drawnTile.setModule(mockModules[3]);
+      assertEquals("Module Icon 3", ((Label) drawnTile.getIcon()).getText());
+    });
+  }
+
   @Test
   void open() {
     // initial module
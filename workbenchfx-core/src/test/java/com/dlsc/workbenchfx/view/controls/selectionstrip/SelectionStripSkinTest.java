@@ -0,0 +1,262 @@
+package com.dlsc.workbenchfx.view.controls.selectionstrip;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.dlsc.workbenchfx.util.BatchedObservableList;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Collectors;
+import javafx.collections.FXCollections;
+import javafx.scene.Node;
+import javafx.scene.Parent;
+import javafx.scene.Scene;
+import javafx.stage.Stage;
+import org.junit.jupiter.api.Test;
+import org.testfx.api.FxRobot;
+import org.testfx.framework.junit5.ApplicationTest;
+
+/**
+ * Test for {@link SelectionStripSkin}.
+ *
+ * @author François Martin
+ * @author Marco Sanfratello
+ */
+class SelectionStripSkinTest extends ApplicationTest {
+
+  private static final String FIRST_CHILD = "first-child";
+
+  private FxRobot robot;
+  private SelectionStrip<String> strip;
+
+  @Override
+  public void start(Stage stage) {
+    robot = new FxRobot();
+
+    strip = new SelectionStrip<>();
+    strip.getItems().setAll("b", "c", "a");
+
+    Scene scene = new Scene(strip, 400, 50);
+    stage.setScene(scene);
+    stage.show();
+  }
+
+  @Test
+  void addAndRemove() {
+    robot.interact(() -> {
+      List<StripCell<String>> cells = getCells();
+
+      // only the added cell is being created
+      strip.getItems().add(1, "d");
+      List<StripCell<String>> added = getCells();
+      assertEquals(4, added.size());
+      assertSame(cells.get(0), added.get(0));
+      assertEquals("d", added.get(1).getItem());
+      assertSame(cells.get(1), added.get(2));
+      assertSame(cells.get(2), added.get(3));
+
+      // only the removed cell is being removed
+      strip.getItems().remove("b");
+      List<StripCell<String>> removed = getCells();
+      assertEquals(3, removed.size());
+      assertSame(added.get(1), removed.get(0));
+      assertTrue(removed.get(0).getStyleClass().contains(FIRST_CHILD));
+      assertFalse(cells.get(0).getStyleClass().contains(FIRST_CHILD));
+    });
+  }
+
+  @Test
+  void permutate() {
+    robot.interact(() -> {
+      List<StripCell<String>> cells = getCells();
+      FXCollections.sort(strip.getItems());
+      List<StripCell<String>> sorted = getCells();
+      assertSame(cells.get(2), sorted.get(0));
+      assertSame(cells.get(0), sorted.get(1));
+      assertSame(cells.get(1), sorted.get(2));
+      assertTrue(sorted.get(0).getStyleClass().contains(FIRST_CHILD));
+      assertEquals(1, sorted.stream()
+          .filter(cell -> cell.getStyleClass().contains(FIRST_CHILD)).count());
+    });
+  }
+
+  @Test
+  void replace() {
+    robot.interact(() -> {
+      List<StripCell<String>> cells = getCells();
+      // cells of items which are still contained are being reused
+      strip.getItems().setAll("a", "e", "c");
+      List<StripCell<String>> replaced = getCells();
+      assertSame(cells.get(2), replaced.get(0));
+      assertEquals("e", replaced.get(1).getItem());
+      assertSame(cells.get(1), replaced.get(2));
+      assertNotSame(cells.get(0), replaced.get(1));
+
+      // also when the list itself is being replaced
+      strip.setItems(FXCollections.observableArrayList("c", "a"));
+      List<StripCell<String>> newList = getCells();
+      assertSame(replaced.get(2), newList.get(0));
+      assertSame(replaced.get(0), newList.get(1));
+    });
+  }
+
+  @Test
+  void moveWithinChange() {
+    robot.interact(() -> {
+      BatchedObservableList<String> items = new BatchedObservableList<>();
+      items.addAll(strip.getItems());
+      strip.setItems(items);
+
+      // the item is being added before it is being removed within the same change
+      items.beginBatch();
+      items.add(0, "a");
+      items.remove(3);
+      items.endBatch();
+
+      List<StripCell<String>> cells = getCells();
+      assertEquals(3, cells.size());
+      assertEquals("a", cells.get(0).getItem());
+      assertTrue(cells.get(0).getStyleClass().contains(FIRST_CHILD));
+      assertFalse(cells.get(1).getStyleClass().contains(FIRST_CHILD));
+
+      // the cell of the moved item still receives selection changes
+      strip.setSelectedItem("a");
+      assertTrue(cells.get(0).isSelected());
+    });
+  }
+
+  @Test
+  void reuseCells() {
+    robot.interact(() -> {
+      List<StripCell<String>> cells = getCells();
+
+      // cells of removed items are being reused for added items
+      strip.getItems().remove("c");
+      strip.getItems().add("d");
+      List<StripCell<String>> reused = getCells();
+      assertSame(cells.get(1), reused.get(2));
+      assertEquals("d", reused.get(2).getItem());
+      assertEquals("d", reused.get(2).getText());
+      assertSame(strip, reused.get(2).getSelectionStrip());
+
+      strip.setSelectedItem("d");
+      assertTrue(reused.get(2).isSelected());
+    });
+  }
+
+  @Test
+  void discardCells() {
+    List<StripCell<String>> disposed = new ArrayList<>();
+    robot.interact(() -> {
+      strip.setCellFactory(param -> new StripCell<String>() {
+        @Override
+        public boolean isReusable() {
+          return false;
+        }
+
+        @Override
+        protected void dispose() {
+          disposed.add(this);
+        }
+      });
+      StripCell<String> cell = getCells().get(1);
+
+      // cells which cannot be reused are being disposed once their item has been removed
+      strip.getItems().remove("c");
+      assertEquals(1, disposed.size());
+      assertSame(cell, disposed.get(0));
+    });
+  }
+
+  @Test
+  void select() {
+    robot.interact(() -> {
+      strip.getItems().add("d");
+      StripCell<String> cell = getCells().get(3);
+      strip.setSelectedItem("d");
+      assertTrue(cell.isSelected());
+
+      // only the previously and newly selected cells change
+      strip.setSelectedItem("a");
+      assertFalse(cell.isSelected());
+      assertTrue(getCells().get(2).isSelected());
+      assertEquals(1, getCells().stream().filter(StripCell::isSelected).count());
+
+      // cells of added items are being selected right away
+      strip.getItems().remove("a");
+      strip.getItems().add("a");
+      assertTrue(getCells().get(3).isSelected());
+    });
+  }
+
+  @Test
+  void virtualized() {
+    List<String> items = new ArrayList<>();
+    for (int i = 0; i < 1000; i++) {
+      items.add("item " + i);
+    }
+    List<StripCell<String>> cells = new ArrayList<>();
+    robot.interact(() -> {
+      strip.setAnimateScrolling(false);
+      strip.setVirtualized(true);
+      strip.getItems().setAll(items);
+      strip.layout();
+
+      // only the cells of the visible items are being created
+      cells.addAll(getVisibleCells());
+      assertTrue(cells.size() < 50);
+      assertEquals("item 0", cells.get(0).getItem());
+      assertTrue(cells.get(0).getStyleClass().contains(FIRST_CHILD));
+      assertTrue(getCells().isEmpty());
+
+      strip.scrollTo(items.get(900));
+      strip.layout();
+    });
+
+    robot.interact(() -> {
+      // cells are being reused for the items which have been scrolled to
+      strip.layout();
+      StripCell<String> cell = getVisibleCells().stream()
+          .filter(visibleCell -> items.get(900) == visibleCell.getItem())
+          .findFirst()
+          .orElseThrow(AssertionError::new);
+      assertTrue(cell.getBoundsInParent().getMinX() >= 0);
+      assertTrue(cell.getBoundsInParent().getMaxX() <= strip.getWidth());
+      assertTrue(getVirtualCells().size() < 50);
+      assertFalse(cell.getStyleClass().contains(FIRST_CHILD));
+
+      // selection still works on reused cells
+      strip.setSelectedItem(items.get(900));
+      assertTrue(cell.isSelected());
+
+      // switching back creates one cell per item
+      strip.setVirtualized(false);
+      assertEquals(1000, getCells().size());
+    });
+  }
+
+  @SuppressWarnings("unchecked")
+  private List<StripCell<String>> getVisibleCells() {
+    return getVirtualCells().stream()
+        .filter(Node::isVisible)
+        .map(node -> (StripCell<String>) node)
+        .sorted(Comparator.comparingDouble(Node::getLayoutX))
+        .collect(Collectors.toList());
+  }
+
+  private List<Node> getVirtualCells() {
+    return ((Parent) strip.getChildrenUnmodifiable().get(1)).getChildrenUnmodifiable();
+  }
+
+  @SuppressWarnings("unchecked")
+  private List<StripCell<String>> getCells() {
+    Parent content = (Parent) strip.getChildrenUnmodifiable().get(0);
+    return content.getChildrenUnmodifiable().stream()
+        .map(node -> (StripCell<String>) node)
+        .collect(Collectors.toList());
+  }
+}
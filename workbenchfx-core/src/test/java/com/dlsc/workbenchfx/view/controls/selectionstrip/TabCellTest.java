@@ -4,8 +4,8 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
-import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
@@ -13,8 +13,8 @@ import static org.mockito.Mockito.when;
 
 import com.dlsc.workbenchfx.Workbench;
 import com.dlsc.workbenchfx.model.WorkbenchModule;
+import com.dlsc.workbenchfx.view.controls.module.ActiveTabDispatcher;
 import com.dlsc.workbenchfx.view.controls.module.Tab;
-import javafx.beans.WeakInvalidationListener;
 import javafx.beans.property.ObjectProperty;
 import javafx.collections.ObservableList;
 import javafx.scene.Scene;
@@ -76,12 +76,12 @@ public class TabCellTest extends ApplicationTest {
     assertTrue(tabCell.getStyleClass().contains(firstChild));
 
     verify(mockStrip, times(2)).getSelectedItem();
-    verify(mockStrip).selectedItemProperty();
+    // selection changes are being applied by the skin of the strip
+    verify(mockStrip, never()).selectedItemProperty();
     verify(mockModule).getWorkbench();
     verify(mockBench).getTabFactory();
     verify(mockFactory).call(mockBench);
     verify(mockTab).setModule(mockModule);
-    verify(mockProperty).addListener((WeakInvalidationListener) any());
     verify(mockStrip).getItems();
     verify(mockList).get(0);
   }
@@ -98,11 +98,47 @@ public class TabCellTest extends ApplicationTest {
     assertFalse(tabCell.getStyleClass().contains(firstChild));
 
     verify(mockStrip).getSelectedItem();
-    verify(mockStrip).selectedItemProperty();
-    verify(mockProperty).addListener((WeakInvalidationListener) any());
+    verify(mockStrip, never()).selectedItemProperty();
     verifyNoMoreInteractions(mockModule, mockBench, mockFactory, mockTab, mockStrip, mockList);
   }
 
+  @Test
+  void testReusingTab() {
+    WorkbenchModule otherModule = mock(WorkbenchModule.class);
+    Tab otherTab = mock(Tab.class);
+    ActiveTabDispatcher mockDispatcher = mock(ActiveTabDispatcher.class);
+    when(mockTab.isReusable()).thenReturn(true);
+    when(otherModule.getWorkbench()).thenReturn(mockBench);
+    when(mockBench.getActiveTabDispatcher()).thenReturn(mockDispatcher);
+
+    robot.interact(() -> {
+      tabCell.setSelectionStrip(mockStrip);
+      tabCell.setItem(mockModule);
+      tabCell.setItem(otherModule);
+    });
+
+    // the tab is being reused for the other module
+    assertEquals(mockTab, tabCell.getGraphic());
+    assertTrue(tabCell.isReusable());
+    verify(mockFactory).call(mockBench);
+    verify(mockTab).setModule(otherModule);
+
+    // unless it can't be reused
+    when(mockTab.isReusable()).thenReturn(false);
+    when(mockFactory.call(mockBench)).thenReturn(otherTab);
+    robot.interact(() -> tabCell.setItem(mockModule));
+
+    assertEquals(otherTab, tabCell.getGraphic());
+    verify(otherTab).setModule(mockModule);
+    // the replaced tab is being discarded
+    verify(mockDispatcher).unregister(mockTab);
+    verify(mockDispatcher, never()).unregister(otherTab);
+
+    // as well as the tab of a discarded cell
+    robot.interact(() -> tabCell.dispose());
+    verify(mockDispatcher).unregister(otherTab);
+  }
+
   @Test
   void testSettingItemNullWithSelectionStripNull() {
     robot.interact(() -> {
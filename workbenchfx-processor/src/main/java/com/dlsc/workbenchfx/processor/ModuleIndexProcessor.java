@@ -0,0 +1,320 @@
+package com.dlsc.workbenchfx.processor;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.Filer;
+import javax.annotation.processing.Messager;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.annotation.processing.SupportedOptions;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.AnnotationValue;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.PackageElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.util.ElementFilter;
+import javax.tools.Diagnostic;
+import javax.tools.FileObject;
+import javax.tools.JavaFileObject;
+import javax.tools.StandardLocation;
+
+/**
+ * Generates a {@code ModuleIndex} of all modules annotated with {@code IndexedModule} at compile
+ * time and registers it as a service, so all modules can be loaded at startup without reflection
+ * or classpath scanning.
+ *
+ * <p>The index is being generated as {@code WorkbenchModuleIndex} in the package of the annotated
+ * module whose class name comes first, unless a package is defined using the
+ * {@value #INDEX_PACKAGE_OPTION} option. Each project needs to have its own package for the index,
+ * otherwise the indexes of different jars would collide.
+ *
+ * @author François Martin
+ * @author Marco Sanfratello
+ */
+@SupportedAnnotationTypes(ModuleIndexProcessor.INDEXED_MODULE)
+@SupportedOptions(ModuleIndexProcessor.INDEX_PACKAGE_OPTION)
+public final class ModuleIndexProcessor extends AbstractProcessor {
+
+  static final String INDEXED_MODULE = "com.dlsc.workbenchfx.model.IndexedModule";
+  static final String INDEX_PACKAGE_OPTION = "workbenchfx.indexPackage";
+  static final String INDEX_NAME = "WorkbenchModuleIndex";
+
+  private static final String WORKBENCH_MODULE = "com.dlsc.workbenchfx.model.WorkbenchModule";
+  private static final String MODULE_INDEX = "com.dlsc.workbenchfx.model.ModuleIndex";
+  private static final String MODULE_DESCRIPTOR = "com.dlsc.workbenchfx.model.ModuleDescriptor";
+  private static final String FA_ICON = "de.jensd.fx.glyphs.fontawesome.FontAwesomeIcon";
+  private static final String MD_ICON = "de.jensd.fx.glyphs.materialdesignicons.MaterialDesignIcon";
+
+  /**
+   * Qualified names of all indexes which have been generated, to be registered as services.
+   */
+  private final List<String> indexes = new ArrayList<>();
+
+  @Override
+  public SourceVersion getSupportedSourceVersion() {
+    return SourceVersion.latestSupported();
+  }
+
+  @Override
+  public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+    if (roundEnv.processingOver()) {
+      writeServices();
+      return false;
+    }
+    TypeElement annotation = processingEnv.getElementUtils().getTypeElement(INDEXED_MODULE);
+    if (Objects.isNull(annotation)) {
+      return false;
+    }
+    List<IndexEntry> entries = new ArrayList<>();
+    for (Element element : roundEnv.getElementsAnnotatedWith(annotation)) {
+      IndexEntry entry = createEntry(element, annotation);
+      if (!Objects.isNull(entry)) {
+        entries.add(entry);
+      }
+    }
+    if (!entries.isEmpty()) {
+      entries.sort(Comparator.comparing(entry -> entry.className));
+      writeIndex(entries);
+    }
+    return true;
+  }
+
+  /**
+   * Validates the annotated {@code element} and reads the values of its annotation.
+   *
+   * @return the entry of the module or null if the {@code element} is invalid
+   */
+  private IndexEntry createEntry(Element element, TypeElement annotation) {
+    Messager messager = processingEnv.getMessager();
+    if (element.getKind() != ElementKind.CLASS) {
+      messager.printMessage(Diagnostic.Kind.ERROR, "Only classes can be indexed", element);
+      return null;
+    }
+    TypeElement type = (TypeElement) element;
+    TypeElement workbenchModule = processingEnv.getElementUtils().getTypeElement(WORKBENCH_MODULE);
+    if (Objects.isNull(workbenchModule) || !processingEnv.getTypeUtils()
+        .isSubtype(type.asType(), processingEnv.getTypeUtils().erasure(workbenchModule.asType()))) {
+      messager.printMessage(
+          Diagnostic.Kind.ERROR, "Indexed modules must extend " + WORKBENCH_MODULE, element);
+      return null;
+    }
+    if (!isAccessible(type) || type.getModifiers().contains(Modifier.ABSTRACT)) {
+      messager.printMessage(
+          Diagnostic.Kind.ERROR, "Indexed modules must be public and not abstract", element);
+      return null;
+    }
+    boolean hasConstructor = ElementFilter.constructorsIn(type.getEnclosedElements()).stream()
+        .anyMatch(constructor -> constructor.getModifiers().contains(Modifier.PUBLIC)
+            && constructor.getParameters().isEmpty());
+    if (!hasConstructor) {
+      messager.printMessage(Diagnostic.Kind.ERROR,
+          "Indexed modules must have a public constructor without arguments", element);
+      return null;
+    }
+
+    IndexEntry entry = new IndexEntry(type.getQualifiedName().toString());
+    List<String> icons = new ArrayList<>();
+    for (AnnotationMirror mirror : type.getAnnotationMirrors()) {
+      if (!mirror.getAnnotationType().asElement().equals(annotation)) {
+        continue;
+      }
+      Map<? extends ExecutableElement, ? extends AnnotationValue> values =
+          processingEnv.getElementUtils().getElementValuesWithDefaults(mirror);
+      for (Map.Entry<? extends ExecutableElement, ? extends AnnotationValue> value
+          : values.entrySet()) {
+        String attribute = value.getKey().getSimpleName().toString();
+        Object content = value.getValue().getValue();
+        switch (attribute) {
+          case "name":
+            entry.name = (String) content;
+            break;
+          case "category":
+            entry.category = (String) content;
+            break;
+          case "faIcon":
+            icons.addAll(iconsOf(FA_ICON, content));
+            break;
+          case "mdIcon":
+            icons.addAll(iconsOf(MD_ICON, content));
+            break;
+          case "image":
+            if (!((String) content).isEmpty()) {
+              icons.add(literal((String) content));
+            }
+            break;
+          default:
+            break;
+        }
+      }
+    }
+    if (icons.size() > 1) {
+      messager.printMessage(
+          Diagnostic.Kind.ERROR, "Indexed modules must not define more than one icon", element);
+      return null;
+    }
+    entry.icon = icons.isEmpty() ? null : icons.get(0);
+    entry.element = type;
+    return entry;
+  }
+
+  /**
+   * Returns whether the {@code type} and all types it is nested in are public and whether it is
+   * static, in case it is nested.
+   */
+  private static boolean isAccessible(TypeElement type) {
+    Element current = type;
+    while (current.getKind().isClass()) {
+      if (!current.getModifiers().contains(Modifier.PUBLIC)) {
+        return false;
+      }
+      Element enclosing = current.getEnclosingElement();
+      if (enclosing.getKind().isClass() && !current.getModifiers().contains(Modifier.STATIC)) {
+        return false;
+      }
+      current = enclosing;
+    }
+    return true;
+  }
+
+  private static List<String> iconsOf(String iconType, Object content) {
+    List<String> icons = new ArrayList<>();
+    for (Object icon : (List<?>) content) {
+      VariableElement constant = (VariableElement) ((AnnotationValue) icon).getValue();
+      icons.add(iconType + "." + constant.getSimpleName());
+    }
+    return icons;
+  }
+
+  private void writeIndex(List<IndexEntry> entries) {
+    String indexPackage = processingEnv.getOptions().get(INDEX_PACKAGE_OPTION);
+    if (Objects.isNull(indexPackage)) {
+      PackageElement modulePackage =
+          processingEnv.getElementUtils().getPackageOf(entries.get(0).element);
+      indexPackage = modulePackage.getQualifiedName().toString();
+    }
+    // indexes of further rounds (modules in generated sources) need a name of their own
+    String indexName = indexes.isEmpty() ? INDEX_NAME : INDEX_NAME + indexes.size();
+    String qualifiedName = indexPackage.isEmpty() ? indexName : indexPackage + "." + indexName;
+
+    StringBuilder source = new StringBuilder();
+    if (!indexPackage.isEmpty()) {
+      source.append("package ").append(indexPackage).append(";\n\n");
+    }
+    source.append("import ").append(MODULE_DESCRIPTOR).append(";\n")
+        .append("import ").append(MODULE_INDEX).append(";\n")
+        .append("import java.util.Arrays;\n")
+        .append("import java.util.List;\n\n")
+        .append("/**\n")
+        .append(" * Index of all modules annotated with {@code IndexedModule}.\n")
+        .append(" * Generated by ").append(getClass().getName()).append(", do not edit.\n")
+        .append(" */\n")
+        .append("public final class ").append(indexName).append(" implements ModuleIndex {\n\n")
+        .append("  @Override\n")
+        .append("  public List<ModuleDescriptor> getModuleDescriptors() {\n")
+        .append("    return Arrays.asList(");
+    for (int i = 0; i < entries.size(); i++) {
+      IndexEntry entry = entries.get(i);
+      source.append(i == 0 ? "\n" : ",\n")
+          .append("        ModuleDescriptor.builder(").append(literal(entry.name)).append(", ")
+          .append(entry.className).append("::new)");
+      if (!Objects.isNull(entry.icon)) {
+        source.append(".icon(").append(entry.icon).append(")");
+      }
+      source.append(".category(").append(literal(entry.category)).append(").build()");
+    }
+    source.append("\n    );\n  }\n}\n");
+
+    Element[] originatingElements = entries.stream().map(entry -> entry.element)
+        .toArray(Element[]::new);
+    Filer filer = processingEnv.getFiler();
+    try {
+      JavaFileObject file = filer.createSourceFile(qualifiedName, originatingElements);
+      try (Writer writer = file.openWriter()) {
+        writer.write(source.toString());
+      }
+      indexes.add(qualifiedName);
+    } catch (IOException e) {
+      processingEnv.getMessager().printMessage(
+          Diagnostic.Kind.ERROR, "Module index could not be written: " + e.getMessage());
+    }
+  }
+
+  private void writeServices() {
+    if (indexes.isEmpty()) {
+      return;
+    }
+    Filer filer = processingEnv.getFiler();
+    try {
+      FileObject file = filer.createResource(
+          StandardLocation.CLASS_OUTPUT, "", "META-INF/services/" + MODULE_INDEX);
+      try (Writer writer = file.openWriter()) {
+        for (String index : indexes) {
+          writer.write(index + "\n");
+        }
+      }
+    } catch (IOException e) {
+      processingEnv.getMessager().printMessage(
+          Diagnostic.Kind.ERROR, "Module index service could not be written: " + e.getMessage());
+    }
+  }
+
+  /**
+   * Returns the {@code value} as an escaped java string literal.
+   */
+  static String literal(String value) {
+    StringBuilder literal = new StringBuilder("\"");
+    for (char c : value.toCharArray()) {
+      switch (c) {
+        case '"':
+          literal.append("\\\"");
+          break;
+        case '\\':
+          literal.append("\\\\");
+          break;
+        case '\n':
+          literal.append("\\n");
+          break;
+        case '\r':
+          literal.append("\\r");
+          break;
+        case '\t':
+          literal.append("\\t");
+          break;
+        default:
+          if (c < ' ' || c > '~') {
+            literal.append(String.format("\\u%04x", (int) c));
+          } else {
+            literal.append(c);
+          }
+      }
+    }
+    return literal.append('"').toString();
+  }
+
+  /**
+   * Represents a single module in the generated index.
+   */
+  private static final class IndexEntry {
+    private final String className;
+    private String name = "";
+    private String category = "";
+    private String icon;
+    private TypeElement element;
+
+    private IndexEntry(String className) {
+      this.className = className;
+    }
+  }
+}
@@ -0,0 +1,147 @@
+package com.dlsc.workbenchfx.processor;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.dlsc.workbenchfx.model.LazyModule;
+import com.dlsc.workbenchfx.model.ModuleDescriptor;
+import com.dlsc.workbenchfx.model.ModuleIndex;
+import java.io.IOException;
+import java.net.URI;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+import javax.tools.Diagnostic;
+import javax.tools.DiagnosticCollector;
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileObject;
+import javax.tools.SimpleJavaFileObject;
+import javax.tools.ToolProvider;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Test class for {@link ModuleIndexProcessor}.
+ *
+ * @author François Martin
+ * @author Marco Sanfratello
+ */
+class ModuleIndexProcessorTest {
+
+  private static final String CALENDAR_MODULE = String.join("\n",
+      "package com.example;",
+      "import com.dlsc.workbenchfx.model.IndexedModule;",
+      "import com.dlsc.workbenchfx.model.WorkbenchModule;",
+      "import de.jensd.fx.glyphs.fontawesome.FontAwesomeIcon;",
+      "@IndexedModule(name = \"Calendar \\\"Pro\\\"\", category = \"Office\",",
+      "    faIcon = FontAwesomeIcon.QUESTION)",
+      "public class CalendarModule extends WorkbenchModule {",
+      "  public CalendarModule() {",
+      "    super(\"Calendar\", FontAwesomeIcon.QUESTION);",
+      "  }",
+      "  @Override",
+      "  public javafx.scene.Node activate() {",
+      "    return null;",
+      "  }",
+      "}");
+
+  private static final String NOTES_MODULE = String.join("\n",
+      "package com.example.notes;",
+      "import com.dlsc.workbenchfx.model.IndexedModule;",
+      "import com.dlsc.workbenchfx.model.WorkbenchModule;",
+      "import de.jensd.fx.glyphs.fontawesome.FontAwesomeIcon;",
+      "public class Notes {",
+      "  @IndexedModule(name = \"Notes\")",
+      "  public static class NotesModule extends WorkbenchModule {",
+      "    public NotesModule() {",
+      "      super(\"Notes\", FontAwesomeIcon.HOME);",
+      "    }",
+      "    @Override",
+      "    public javafx.scene.Node activate() {",
+      "      return null;",
+      "    }",
+      "  }",
+      "}");
+
+  @TempDir
+  Path output;
+
+  @Test
+  void generateIndex() throws IOException {
+    List<Diagnostic<? extends JavaFileObject>> errors = compile(
+        source("com.example.CalendarModule", CALENDAR_MODULE),
+        source("com.example.notes.Notes", NOTES_MODULE));
+    assertTrue(errors.isEmpty(), errors.toString());
+
+    // index is placed in the package of the first module
+    assertTrue(Files.exists(output.resolve("com/example/WorkbenchModuleIndex.class")));
+
+    try (URLClassLoader classLoader = new URLClassLoader(
+        new URL[] {output.toUri().toURL()}, getClass().getClassLoader())) {
+      List<ModuleDescriptor> descriptors = ModuleIndex.load(classLoader);
+      assertEquals(2, descriptors.size());
+      assertEquals("Calendar \"Pro\"", descriptors.get(0).getName());
+      assertEquals("Office", descriptors.get(0).getCategory());
+      assertEquals("Notes", descriptors.get(1).getName());
+      assertEquals("", descriptors.get(1).getCategory());
+
+      // modules are only being created on demand
+      LazyModule proxy = descriptors.get(1).createProxy();
+      assertFalse(proxy.isLoaded());
+      assertEquals("com.example.notes.Notes$NotesModule",
+          proxy.getModule().getClass().getName());
+    }
+  }
+
+  @Test
+  void invalidModules() {
+    String notAModule = String.join("\n",
+        "package com.example;",
+        "@com.dlsc.workbenchfx.model.IndexedModule(name = \"Invalid\")",
+        "public class Invalid {",
+        "}");
+    String twoIcons = CALENDAR_MODULE.replace("faIcon = FontAwesomeIcon.QUESTION",
+        "faIcon = FontAwesomeIcon.QUESTION, image = \"a.png\"");
+    String withoutConstructor = CALENDAR_MODULE.replace("public CalendarModule()",
+        "public CalendarModule(String name)");
+
+    assertEquals(1, compile(source("com.example.Invalid", notAModule)).size());
+    assertEquals(1, compile(source("com.example.CalendarModule", twoIcons)).size());
+    assertEquals(1, compile(source("com.example.CalendarModule", withoutConstructor)).size());
+  }
+
+  @Test
+  void literal() {
+    assertEquals("\"a\\\"b\\\\c\\n\\u00e9\"", ModuleIndexProcessor.literal("a\"b\\c\né"));
+  }
+
+  private List<Diagnostic<? extends JavaFileObject>> compile(JavaFileObject... sources) {
+    JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+    DiagnosticCollector<JavaFileObject> diagnostics = new DiagnosticCollector<>();
+    List<String> options = Arrays.asList(
+        "-classpath", System.getProperty("java.class.path"), "-d", output.toString());
+    JavaCompiler.CompilationTask task = compiler.getTask(
+        null, null, diagnostics, options, null, Arrays.asList(sources));
+    task.setProcessors(Collections.singletonList(new ModuleIndexProcessor()));
+    task.call();
+    return diagnostics.getDiagnostics().stream()
+        .filter(diagnostic -> diagnostic.getKind() == Diagnostic.Kind.ERROR)
+        .collect(Collectors.toList());
+  }
+
+  private static JavaFileObject source(String className, String content) {
+    URI uri = URI.create("string:///" + className.replace('.', '/') + ".java");
+    return new SimpleJavaFileObject(uri, JavaFileObject.Kind.SOURCE) {
+      @Override
+      public CharSequence getCharContent(boolean ignoreEncodingErrors) {
+        return content;
+      }
+    };
+  }
+}